@@ -0,0 +1,108 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load Test
+ *
+ * Closed-loop HTTP load generator used to compare the default (platform thread)
+ * mode with the virtual-thread mode ("virtual" profile, Java 21+ runtime).
+ *
+ * Usage (single-file source launch, no build needed):
+ *   java loadtest/LoadTest.java [url] [concurrency] [seconds]
+ *
+ * Example comparison with a small Tomcat pool to make saturation visible:
+ *   java -jar target/portfolio-backend-1.0.0.jar --server.tomcat.threads.max=20
+ *   java loadtest/LoadTest.java http://localhost:8080/api/projects/stream 400 30
+ *
+ *   java -jar target/portfolio-backend-1.0.0.jar --server.tomcat.threads.max=20 --spring.profiles.active=virtual
+ *   java loadtest/LoadTest.java http://localhost:8080/api/projects/stream 400 30
+ *
+ * Prints requests/second, error count and latency percentiles.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/api/projects/stream";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        // Warm-up so JIT compilation and cache fills do not skew the result
+        runPhase(client, request, Math.min(concurrency, 16), 5);
+
+        Result result = runPhase(client, request, concurrency, seconds);
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+
+        System.out.printf("url=%s concurrency=%d duration=%ds%n", url, concurrency, seconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                result.ok() + result.errors(), result.errors(), (double) result.ok() / seconds);
+        System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static Result runPhase(HttpClient client, HttpRequest request, int concurrency, int seconds)
+            throws InterruptedException {
+        AtomicLong ok = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> perWorker = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            long[] samples = new long[1 << 16];
+            int[] count = new int[1];
+            perWorker.add(samples);
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() < 400) {
+                            ok.incrementAndGet();
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    samples[count[0]++ & (samples.length - 1)] = System.nanoTime() - start;
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        long[] all = perWorker.stream().flatMapToLong(Arrays::stream).filter(v -> v > 0).toArray();
+        return new Result(ok.get(), errors.get(), all);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(long ok, long errors, long[] latencies) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.PortfolioApplication;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.links.LinkStatus;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark Context
+ *
+ * Starts the application without the web server against a private in-memory H2
+ * database (or an H2 file database in durable mode), with SQL logging off, and
+ * builds sample data for the benchmarks.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return startWith("spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    /**
+     * Start in durable mode (profile "persistent") on an H2 file database in the given directory
+     */
+    public static ConfigurableApplicationContext startPersistent(Path dataDir) {
+        return startWith("spring.profiles.active=persistent",
+                "portfolio.data-dir=" + dataDir.toAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext startWith(String... properties) {
+        return new SpringApplicationBuilder(PortfolioApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Sample projects with realistic field sizes (description of about 600 characters)
+     */
+    public static List<ProjectDTO> sampleProjects(int count) {
+        String description = "A full-stack application with authentication, search and dashboards. "
+                .repeat(9);
+        List<ProjectDTO> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            projects.add(new ProjectDTO(
+                    (long) i,
+                    "Project " + i,
+                    description,
+                    "React, Spring Boot, PostgreSQL",
+                    "https://github.com/example/project-" + i,
+                    "https://example.com/demo/" + i,
+                    LinkStatus.OK,
+                    LinkStatus.OK,
+                    0L));
+        }
+        return projects;
+    }
+}
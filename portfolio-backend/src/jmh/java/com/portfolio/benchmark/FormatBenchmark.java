@@ -0,0 +1,89 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.protobuf.ProjectProtobufCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode/decode time of List&lt;ProjectDTO&gt; per response format
+ * (JSON, Smile, CBOR, Protobuf).
+ *
+ * Body sizes (plain and gzip) are printed once per trial, since JMH only
+ * reports times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormatBenchmark {
+
+    private static final TypeReference<List<ProjectDTO>> PROJECT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    @Param({"10", "1000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<ProjectDTO> projects;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same builder Spring MVC uses for its Jackson message converters
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        projects = BenchmarkContext.sampleProjects(rows);
+        encoded = encode();
+
+        System.out.printf("%n[size] format=%s rows=%d bytes=%d gzip=%d%n",
+                format, rows, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (format.equals("protobuf")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ProjectProtobufCodec.writeProjectList(projects, out);
+            return out.toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> decode() throws IOException {
+        if (format.equals("protobuf")) {
+            return ProjectProtobufCodec.readProjectList(new ByteArrayInputStream(encoded));
+        }
+        return objectMapper.readValue(encoded, PROJECT_LIST);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,44 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.ProjectDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of List&lt;ProjectDTO&gt; at different list sizes
+ * (the body of GET /api/projects).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<ProjectDTO> projects;
+
+    @Setup
+    public void setUp() {
+        // Same builder Spring Boot uses for the MVC message converters
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        projects = BenchmarkContext.sampleProjects(rows);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectList() throws Exception {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+}
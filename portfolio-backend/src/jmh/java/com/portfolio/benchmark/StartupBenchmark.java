@@ -0,0 +1,92 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time in durable mode (profile "persistent"), until the application is ready.
+ *
+ * - rows = 0: cold start on an empty data directory (Flyway creates the schema)
+ * - rows > 0: warm restart on an existing database with that many projects
+ *
+ * Each measurement is one start (the stop is not timed). The first iteration of a fork also
+ * pays for class loading and JIT; warm-up iterations are skipped so it shows up
+ * as the maximum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final int INSERT_BATCH = 5000;
+
+    @Param({"0", "10000", "100000"})
+    private int rows;
+
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void createDatabase() throws IOException {
+        dataDir = Files.createTempDirectory("portfolio-startup");
+        if (rows == 0) {
+            return;
+        }
+        try (ConfigurableApplicationContext context = BenchmarkContext.startPersistent(dataDir)) {
+            ProjectService projectService = context.getBean(ProjectService.class);
+            List<ProjectDTO> projects = BenchmarkContext.sampleProjects(rows);
+            projects.forEach(project -> project.setId(null));
+            for (int from = 0; from < rows; from += INSERT_BATCH) {
+                projectService.createProjects(projects.subList(from, Math.min(rows, from + INSERT_BATCH)));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetColdDatabase() throws IOException {
+        if (rows == 0) {
+            FileSystemUtils.deleteRecursively(dataDir);
+            Files.createDirectories(dataDir);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        context.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDatabase() throws IOException {
+        FileSystemUtils.deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        context = BenchmarkContext.startPersistent(dataDir);
+        return context;
+    }
+}
@@ -0,0 +1,67 @@
+package com.portfolio.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error path through GlobalExceptionHandler
+ *
+ * Each invocation creates the exception and builds the error response, like a
+ * request for a missing project does. Unexpected errors also go through the
+ * ErrorLogger (deduplicated and written asynchronously).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ErrorLogger errorLogger;
+    private WebRequest request;
+    private long id;
+    private PrintStream originalErr;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        errorLogger = new ErrorLogger(meterRegistry, Duration.ofMinutes(1), 10, 1000);
+        handler = new GlobalExceptionHandler(meterRegistry, errorLogger);
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/projects/42"));
+        // Keep the occasional error log line out of the results
+        originalErr = System.err;
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        errorLogger.shutdown();
+        System.setErr(originalErr);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        return handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Project", "id", ++id), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> unexpectedError() {
+        return handler.handleGlobalException(new IllegalStateException("Unexpected " + ++id), request);
+    }
+}
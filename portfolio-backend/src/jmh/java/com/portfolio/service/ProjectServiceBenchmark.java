@@ -0,0 +1,108 @@
+package com.portfolio.service;
+
+import com.portfolio.benchmark.BenchmarkContext;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.entity.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProjectService hot paths
+ *
+ * - convertToDTO / convertToEntity on a single project
+ * - getAllProjects against H2 at several table sizes, with a cold cache
+ *   (every call reaches the database) and a warm cache
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ConversionState {
+
+        ConfigurableApplicationContext context;
+        ProjectService projectService;
+        Project project;
+        ProjectDTO projectDTO;
+
+        @Setup
+        public void setUp() {
+            context = BenchmarkContext.start("conversion");
+            projectService = context.getBean(ProjectService.class);
+            projectDTO = BenchmarkContext.sampleProjects(1).get(0);
+            project = projectService.convertToEntity(projectDTO);
+            project.setId(1L);
+            project.setVersion(0L);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DatabaseState {
+
+        @Param({"100", "1000", "10000"})
+        int rows;
+
+        @Param({"cold", "warm"})
+        String cache;
+
+        ConfigurableApplicationContext context;
+        ProjectService projectService;
+        CacheManager cacheManager;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContext.start("service" + rows + cache);
+            projectService = context.getBean(ProjectService.class);
+            cacheManager = context.getBean(CacheManager.class);
+            List<ProjectDTO> projects = BenchmarkContext.sampleProjects(rows);
+            for (int start = 0; start < projects.size(); start += 5000) {
+                projectService.createProjects(projects.subList(start, Math.min(start + 5000, projects.size())));
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void clearCache() {
+            if (cache.equals("cold")) {
+                cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public ProjectDTO convertToDTO(ConversionState state) {
+        return state.projectService.convertToDTO(state.project);
+    }
+
+    @Benchmark
+    public Project convertToEntity(ConversionState state) {
+        return state.projectService.convertToEntity(state.projectDTO);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> getAllProjects(DatabaseState state) {
+        return state.projectService.getAllProjects();
+    }
+}
@@ -0,0 +1,155 @@
+package com.portfolio.tenant;
+
+import com.portfolio.benchmark.BenchmarkContext;
+import com.portfolio.dto.BatchItemResult;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SearchResult;
+import com.portfolio.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small-tenant latency next to one large tenant
+ *
+ * One tenant owns bigRows projects, smallTenants tenants own 20 each.
+ * - isolated: small-tenant list and search reads alone (baseline)
+ * - skewed: the same reads while the large tenant keeps editing projects
+ *   (evicting its caches, bumping its catalog version, updating its indexes)
+ *   and listing its whole catalog
+ *
+ * With per-tenant partitions the small-tenant percentiles of both groups
+ * should stay close; before partitioning every large-tenant write emptied
+ * the shared list cache and every search scored all rows.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TenantSkewBenchmark {
+
+    private static final String BIG_TENANT = "big";
+    private static final int SMALL_TENANT_ROWS = 20;
+
+    @State(Scope.Benchmark)
+    public static class TenantsState {
+
+        @Param({"20000"})
+        int bigRows;
+
+        @Param({"50"})
+        int smallTenants;
+
+        ConfigurableApplicationContext context;
+        ProjectService projectService;
+        List<Long> bigIds;
+        List<String> smallTenantIds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContext.start("tenantskew" + bigRows + "x" + smallTenants);
+            projectService = context.getBean(ProjectService.class);
+
+            bigIds = TenantContext.callAs(BIG_TENANT, () -> createProjects(bigRows));
+            smallTenantIds = new ArrayList<>(smallTenants);
+            for (int i = 0; i < smallTenants; i++) {
+                String tenantId = "small-" + i;
+                TenantContext.runAs(tenantId, () -> createProjects(SMALL_TENANT_ROWS));
+                smallTenantIds.add(tenantId);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        String randomSmallTenant() {
+            return smallTenantIds.get(ThreadLocalRandom.current().nextInt(smallTenantIds.size()));
+        }
+
+        /**
+         * Helper method: Create sample projects for the current tenant in batches of 5000
+         *
+         * @return The created ids
+         */
+        private List<Long> createProjects(int rows) {
+            List<ProjectDTO> projects = BenchmarkContext.sampleProjects(rows);
+            List<Long> ids = new ArrayList<>(rows);
+            for (int start = 0; start < projects.size(); start += 5000) {
+                List<ProjectDTO> chunk = projects.subList(start, Math.min(start + 5000, projects.size()));
+                for (BatchItemResult result : projectService.createProjects(chunk).getResults()) {
+                    ids.add(result.getId());
+                }
+            }
+            return ids;
+        }
+    }
+
+    @Benchmark
+    @Group("isolated")
+    @GroupThreads(2)
+    public List<ProjectDTO> isolatedSmallList(TenantsState state) {
+        return smallList(state);
+    }
+
+    @Benchmark
+    @Group("isolated")
+    @GroupThreads(1)
+    public List<SearchResult> isolatedSmallSearch(TenantsState state) {
+        return smallSearch(state);
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(2)
+    public List<ProjectDTO> skewedSmallList(TenantsState state) {
+        return smallList(state);
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(1)
+    public List<SearchResult> skewedSmallSearch(TenantsState state) {
+        return smallSearch(state);
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(1)
+    public ProjectDTO skewedBigWrite(TenantsState state) {
+        Long id = state.bigIds.get(ThreadLocalRandom.current().nextInt(state.bigIds.size()));
+        ProjectDTO edit = BenchmarkContext.sampleProjects(1).get(0);
+        edit.setTitle("Project " + id + " edited");
+        return TenantContext.callAs(BIG_TENANT, () -> state.projectService.updateProject(id, edit));
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(2)
+    public List<ProjectDTO> skewedBigList(TenantsState state) {
+        return TenantContext.callAs(BIG_TENANT, () -> state.projectService.getAllProjects());
+    }
+
+    private static List<ProjectDTO> smallList(TenantsState state) {
+        return TenantContext.callAs(state.randomSmallTenant(), () -> state.projectService.getAllProjects());
+    }
+
+    private static List<SearchResult> smallSearch(TenantsState state) {
+        return TenantContext.callAs(state.randomSmallTenant(),
+                () -> state.projectService.searchProjects("authentication dashboards", 10));
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio;
 
+import com.portfolio.startup.StartupTimer;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -13,12 +14,16 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * - Configuration properties
  * 
  * Design Pattern: This follows the Spring Boot application pattern
+ * 
+ * StartupTimer logs how long each startup phase took (startup_report).
  */
 @SpringBootApplication
 public class PortfolioApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(PortfolioApplication.class, args);
+        SpringApplication application = new SpringApplication(PortfolioApplication.class);
+        application.addListeners(new StartupTimer());
+        application.run(args);
         System.out.println("\n==============================================");
         System.out.println("Portfolio Management System Backend Started!");
         System.out.println("API Base URL: http://localhost:8080/api");
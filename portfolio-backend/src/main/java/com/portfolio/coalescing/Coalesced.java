@@ -0,0 +1,37 @@
+package com.portfolio.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesced
+ *
+ * Marks a read method whose concurrent identical calls share one execution
+ * (single-flight, see CoalescingAspect).
+ *
+ * Calls are identical when they go to the same method with an equal key. Like
+ * the key of @Cacheable, the key is a SpEL expression over the arguments
+ * (#name) and #root.target; without one, all arguments form the key.
+ *
+ * Only for methods without side effects whose result may be shared between
+ * callers.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * SpEL expression for the key; empty: all arguments
+     */
+    String key() default "";
+
+    /**
+     * Longest time in milliseconds a caller waits for a shared execution before it runs
+     * the method itself; negative: portfolio.coalescing.timeout
+     */
+    long timeoutMillis() default -1;
+}
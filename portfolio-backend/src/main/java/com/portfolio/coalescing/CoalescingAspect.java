@@ -0,0 +1,182 @@
+package com.portfolio.coalescing;
+
+import com.portfolio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalescing Aspect
+ *
+ * Runs @Coalesced methods through a SingleFlight, so a burst of identical
+ * reads (e.g. a shared link to one project) costs one database load.
+ *
+ * This class demonstrates:
+ * - Design Pattern: Proxy / AOP (coalescing is added around the service, not inside it)
+ * - Concurrency: Request coalescing, see SingleFlight
+ *
+ * Advice order (outermost first):
+ * 1. Cache (CacheConfig): a hit never gets here
+ * 2. Coalescing: concurrent misses for the same key share one call
+ * 3. Transaction, query: run once per shared call
+ *
+ * Metrics, tagged with the method:
+ * - portfolio.coalescing.calls{role=leader|follower|timeout}: how calls were answered
+ * - portfolio.coalescing.ratio: share of calls answered by another call's execution
+ *   (followers / (leaders + followers)) since startup
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CoalescingAspect {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${portfolio.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${portfolio.coalescing.timeout:5s}")
+    private Duration defaultTimeout;
+
+    // Parsed key expression and metrics per method
+    private final Map<Method, MethodState> methods = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CoalescingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("portfolio.coalescing.in-flight", singleFlight, SingleFlight::getInFlight)
+                .description("Coalesced calls running right now")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodState state = methods.computeIfAbsent(method, m -> new MethodState(m, coalesced));
+
+        Object[] args = joinPoint.getArgs();
+        CallKey key = new CallKey(method, TenantContext.current(), state.key(joinPoint.getTarget(), args));
+        Duration timeout = coalesced.timeoutMillis() < 0
+                ? defaultTimeout : Duration.ofMillis(coalesced.timeoutMillis());
+        return singleFlight.execute(key, timeout, () -> joinPoint.proceed(args), state::count);
+    }
+
+    /**
+     * Identical calls: same method, same tenant, equal key
+     * Callers of different tenants never share a result
+     */
+    private record CallKey(Method method, String tenantId, Object key) {
+    }
+
+    /**
+     * Root object of key expressions (#root.target, #root.method, #root.args)
+     */
+    public static class KeyRoot {
+
+        private final Object target;
+        private final Method method;
+        private final Object[] args;
+
+        KeyRoot(Object target, Method method, Object[] args) {
+            this.target = target;
+            this.method = method;
+            this.args = args;
+        }
+
+        public Object getTarget() {
+            return target;
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public Object[] getArgs() {
+            return args;
+        }
+    }
+
+    /**
+     * Key expression and counters of one @Coalesced method
+     */
+    private class MethodState {
+
+        private final Method method;
+        private final Expression keyExpression;
+        private final Counter leaders;
+        private final Counter followers;
+        private final Counter timeouts;
+
+        MethodState(Method method, Coalesced coalesced) {
+            this.method = method;
+            this.keyExpression = coalesced.key().isEmpty() ? null : PARSER.parseExpression(coalesced.key());
+
+            String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            this.leaders = callCounter(name, "leader");
+            this.followers = callCounter(name, "follower");
+            this.timeouts = callCounter(name, "timeout");
+            Gauge.builder("portfolio.coalescing.ratio", this, MethodState::ratio)
+                    .description("Share of calls answered by another call's execution")
+                    .tag("method", name)
+                    .register(meterRegistry);
+        }
+
+        Object key(Object target, Object[] args) {
+            if (keyExpression == null) {
+                return Arrays.asList(args);
+            }
+            MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                    new KeyRoot(target, method, args), method, args, PARAMETER_NAMES);
+            return keyExpression.getValue(context);
+        }
+
+        void count(SingleFlight.Role role) {
+            switch (role) {
+                case LEADER -> leaders.increment();
+                case FOLLOWER -> followers.increment();
+                case TIMEOUT -> timeouts.increment();
+            }
+        }
+
+        double ratio() {
+            double shared = followers.count();
+            double total = leaders.count() + shared;
+            return total == 0 ? 0 : shared / total;
+        }
+
+        private Counter callCounter(String name, String role) {
+            return Counter.builder("portfolio.coalescing.calls")
+                    .description("Calls of coalesced methods, by how they were answered")
+                    .tag("method", name)
+                    .tag("role", role)
+                    .register(meterRegistry);
+        }
+    }
+}
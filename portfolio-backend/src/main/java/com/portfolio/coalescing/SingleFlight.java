@@ -0,0 +1,108 @@
+package com.portfolio.coalescing;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single Flight
+ *
+ * Lets concurrent calls with the same key share one execution.
+ *
+ * This class demonstrates:
+ * - Concurrency: Request coalescing; the first caller (leader) runs the call,
+ *   callers arriving while it runs (followers) wait for its result
+ * - Data Structure: Map of in-flight calls, an entry lives only as long as its call
+ *
+ * Followers get exactly what the leader got: its result, or the exception it
+ * threw. A follower waits at most the given timeout; then it gives up on the
+ * shared call, runs its own and removes the slow entry, so that later callers
+ * do not queue behind a stuck execution either.
+ *
+ * Nothing is remembered after a call finished; caching is a separate layer.
+ */
+public class SingleFlight {
+
+    /**
+     * How a call was answered
+     */
+    public enum Role {
+        /** Ran the call */
+        LEADER,
+        /** Shared the result of a running call */
+        FOLLOWER,
+        /** Waited for a running call, gave up and ran its own */
+        TIMEOUT
+    }
+
+    /**
+     * The call itself; may throw anything, which is passed on to all waiting callers
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T run() throws Throwable;
+    }
+
+    /**
+     * Called once per call with the role it got (for metrics)
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onCall(Role role);
+    }
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Run the call, or wait for the running call with an equal key
+     *
+     * @param key Identifies identical calls (needs equals and hashCode)
+     * @param timeout Longest wait for a running call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Duration timeout, Call<T> call, Listener listener) throws Throwable {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running == null) {
+            listener.onCall(Role.LEADER);
+            return (T) lead(key, mine, call);
+        }
+
+        try {
+            T result = (T) running.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            listener.onCall(Role.FOLLOWER);
+            return result;
+        } catch (ExecutionException e) {
+            listener.onCall(Role.FOLLOWER);
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            listener.onCall(Role.TIMEOUT);
+            inFlight.remove(key, running);
+            return call.run();
+        }
+    }
+
+    /**
+     * Number of calls running right now
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private Object lead(Object key, CompletableFuture<Object> mine, Call<?> call) throws Throwable {
+        try {
+            Object result = call.run();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.tenant.TenantPartitionedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cache Configuration
+ * 
+ * This class configures the in-process read-through cache used by ProjectService.
+ * 
+ * Two caches are registered:
+ * - "project"      - single ProjectDTO by id
+ * - "projectLists" - full list and keyset pages
+ * 
+ * Caffeine provides bounded size, TTL expiry and W-TinyLFU eviction.
+ * Both caches are partitioned by tenant (TenantPartitionedCache): the size
+ * limits apply per tenant, and one tenant's writes only clear its own entries.
+ * Statistics are recorded so hit/miss/eviction counts can be inspected
+ * (see CacheController).
+ * 
+ * The cache advice runs before the transaction advice, so a cache hit neither
+ * opens a transaction nor borrows a database connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String PROJECT_CACHE = "project";
+    public static final String PROJECT_LIST_CACHE = "projectLists";
+
+    @Value("${portfolio.cache.project.max-size:10000}")
+    private long projectMaxSize;
+
+    @Value("${portfolio.cache.project.ttl:10m}")
+    private Duration projectTtl;
+
+    @Value("${portfolio.cache.list.max-size:256}")
+    private long listMaxSize;
+
+    @Value("${portfolio.cache.list.ttl:1m}")
+    private Duration listTtl;
+
+    @Value("${portfolio.tenant.max-tenants:1000}")
+    private long maxTenants;
+
+    @Value("${portfolio.tenant.cache-idle-expiry:1h}")
+    private Duration tenantIdleExpiry;
+
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new TenantPartitionedCache(PROJECT_CACHE, () -> Caffeine.newBuilder()
+                        .maximumSize(projectMaxSize)
+                        .expireAfterWrite(projectTtl)
+                        .recordStats(), maxTenants, tenantIdleExpiry),
+                new TenantPartitionedCache(PROJECT_LIST_CACHE, () -> Caffeine.newBuilder()
+                        .maximumSize(listMaxSize)
+                        .expireAfterWrite(listTtl)
+                        .recordStats(), maxTenants, tenantIdleExpiry)));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,79 @@
+package com.portfolio.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * DataSource Limiter Configuration
+ * 
+ * When portfolio.datasource.limiter.enabled=true, the application DataSource is
+ * wrapped in a ConnectionLimitingDataSource. By default it gets one permit per
+ * pooled connection (spring.datasource.hikari.maximum-pool-size).
+ * 
+ * Enabled together with virtual threads in the "virtual" profile.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolio.datasource.limiter.enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    int poolSize = environment.getProperty(
+                            "spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                    int permits = environment.getProperty(
+                            "portfolio.datasource.limiter.permits", Integer.class, poolSize);
+                    Duration timeout = environment.getProperty(
+                            "portfolio.datasource.limiter.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+                    return new ConnectionLimitingDataSource(dataSource, permits, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Gauges for the limiter: free permits and threads waiting for one
+     */
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionLimitingDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter != null) {
+                Gauge.builder("portfolio.datasource.limiter.available", limiter,
+                                ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Connection permits that can be taken without waiting")
+                        .register(registry);
+                Gauge.builder("portfolio.datasource.limiter.waiting", limiter,
+                                ConnectionLimitingDataSource::getQueueLength)
+                        .description("Threads waiting for a connection permit")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Helper method: Find the limiter even when other DataSource wrappers sit on top of it
+     */
+    private static ConnectionLimitingDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConnectionLimitingDataSource.class)
+                    ? dataSource.unwrap(ConnectionLimitingDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
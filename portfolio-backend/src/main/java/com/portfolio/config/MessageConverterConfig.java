@@ -0,0 +1,33 @@
+package com.portfolio.config;
+
+import com.portfolio.protobuf.ProjectProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Message Converter Configuration
+ *
+ * Response formats are chosen from the Accept header:
+ * - application/json              - default (Jackson)
+ * - application/x-jackson-smile   - binary JSON (Jackson Smile)
+ * - application/cbor              - binary JSON (Jackson CBOR)
+ * - application/x-protobuf        - ProjectDTO and lists only (src/main/proto/project.proto)
+ *
+ * The Smile and CBOR converters are registered by Spring MVC because their
+ * Jackson dataformat modules are on the classpath. The Protobuf converter is
+ * appended last, so clients that accept any type keep getting JSON.
+ *
+ * Compression of the encoded bodies is configured with server.compression.*
+ * in application.properties.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProjectProtobufHttpMessageConverter());
+    }
+}
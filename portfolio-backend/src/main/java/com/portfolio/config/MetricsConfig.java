@@ -0,0 +1,37 @@
+package com.portfolio.config;
+
+import com.portfolio.tenant.TenantPartitionedCache;
+import com.portfolio.tenant.TenantPartitionedCacheMetrics;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics Configuration
+ * 
+ * Enables Micrometer's @Timed annotation (used on ProjectService), which records
+ * a timer per method with call count, total time and an exception tag.
+ * 
+ * Everything else is auto-configured by Spring Boot Actuator and exposed at
+ * /actuator/prometheus:
+ * - http.server.requests  - per-endpoint latency (p50/p99, see application.properties)
+ * - hibernate.*           - statement and entity-load statistics
+ * - hikaricp.*            - connection pool gauges
+ * - cache.*               - Caffeine cache hits/misses/evictions (project caches:
+ *                           summed over tenants, see TenantPartitionedCacheMetrics)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TenantPartitionedCache> tenantPartitionedCacheMeterBinderProvider() {
+        return TenantPartitionedCacheMetrics::new;
+    }
+}
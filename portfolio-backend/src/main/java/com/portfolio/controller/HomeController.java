@@ -1,8 +1,18 @@
 package com.portfolio.controller;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 import java.time.LocalDateTime;
@@ -10,14 +20,60 @@ import java.time.LocalDateTime;
 @RestController
 public class HomeController {
 
+    private final HealthEndpoint healthEndpoint;
+    private final DataSource dataSource;
+
+    @Autowired
+    public HomeController(HealthEndpoint healthEndpoint, DataSource dataSource) {
+        this.healthEndpoint = healthEndpoint;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * GET /
+     * Service status, including database and connection pool readiness
+     * Returns 503 SERVICE UNAVAILABLE when the database is not reachable
+     */
     @GetMapping("/")
     public ResponseEntity<Map<String, Object>> home() {
+        HealthComponent dbHealth = healthEndpoint.healthForPath("db");
+        boolean databaseUp = dbHealth != null && Status.UP.equals(dbHealth.getStatus());
+
+        Map<String, Object> database = new HashMap<>();
+        database.put("status", dbHealth != null ? dbHealth.getStatus().getCode() : Status.UNKNOWN.getCode());
+        database.put("pool", poolStatus());
+
         Map<String, Object> response = new HashMap<>();
-        response.put("status", "operational");
+        response.put("status", databaseUp ? "operational" : "degraded");
         response.put("message", "Portfolio Management System Backend is Running");
         response.put("timestamp", LocalDateTime.now());
         response.put("documentation", "/api/projects");
+        response.put("metrics", "/actuator/prometheus");
+        response.put("database", database);
+
+        return new ResponseEntity<>(response, databaseUp ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE);
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * Helper method: Current Hikari pool usage, or an empty map if the pool is not started yet
+     */
+    private Map<String, Object> poolStatus() {
+        Map<String, Object> pool = new HashMap<>();
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+                pool.put("maximum", hikari.getMaximumPoolSize());
+                if (mxBean != null) {
+                    pool.put("active", mxBean.getActiveConnections());
+                    pool.put("idle", mxBean.getIdleConnections());
+                    pool.put("total", mxBean.getTotalConnections());
+                    pool.put("pending", mxBean.getThreadsAwaitingConnection());
+                }
+            }
+        } catch (SQLException e) {
+            pool.put("error", e.getMessage());
+        }
+        return pool;
     }
 }
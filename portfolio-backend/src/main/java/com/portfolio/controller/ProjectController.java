@@ -1,14 +1,40 @@
 package com.portfolio.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.BatchResponse;
+import com.portfolio.dto.ImportResult;
 import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.ProjectPage;
+import com.portfolio.dto.SearchResult;
+import com.portfolio.dto.TechFacet;
+import com.portfolio.event.ProjectChangeFeed;
+import com.portfolio.exception.PreconditionFailedException;
+import com.portfolio.idempotency.IdempotencyService;
+import com.portfolio.protobuf.ProjectProtobufHttpMessageConverter;
+import com.portfolio.service.ProjectListSnapshot;
 import com.portfolio.service.ProjectService;
+import com.portfolio.service.ProjectTransferService;
+import com.portfolio.tenant.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Project REST Controller
@@ -26,48 +52,307 @@ import java.util.List;
  * 
  * REST API Endpoints:
  * - GET    /api/projects       - Get all projects
+ * - GET    /api/projects?after={id}&limit={n} - Get one page of projects (keyset pagination)
+ * - GET    /api/projects/stream - Stream all projects as a JSON array
+ * - GET    /api/projects/export?format={ndjson|csv} - Bulk export
+ * - POST   /api/projects/import?importId={id} - Bulk import (NDJSON or CSV body), resumable
+ * - GET    /api/projects/changes - Server-Sent Events stream of creates/updates/deletes
+ * - GET    /api/projects/search?q={text} - Full-text search, best matches first
+ * - GET    /api/projects?tech={a,b}&match={all|any} - Filter by tech-stack tags
+ * - GET    /api/projects/tech-facets - Number of projects per tech-stack tag
  * - GET    /api/projects/{id}  - Get project by ID
  * - POST   /api/projects       - Create new project
  * - PUT    /api/projects/{id}  - Update project
  * - DELETE /api/projects/{id}  - Delete project
+ * - POST   /api/projects/batch - Create many projects
+ * - PUT    /api/projects/batch - Update many projects
+ * - DELETE /api/projects/batch - Delete many projects
+ * 
+ * Response formats (Accept header, see MessageConverterConfig):
+ * - application/json (default), application/x-jackson-smile, application/cbor
+ * - application/x-protobuf for projects and project lists
+ * 
+ * Conditional requests:
+ * - GET responses carry a weak ETag (and Last-Modified for lists);
+ *   If-None-Match / If-Modified-Since answer 304 NOT MODIFIED without a body
+ * - ETags are weak because they name a version, not bytes: the same version is
+ *   sent as JSON, Smile, CBOR or Protobuf, gzipped or not (the servlet
+ *   container also refuses to compress responses with a strong ETag)
+ * - PUT and DELETE honour If-Match (comparing the version) and answer
+ *   412 PRECONDITION FAILED when the project was changed by someone else
+ * 
+ * Tenants:
+ * - Every request works on the projects of one tenant, taken from the
+ *   X-Tenant-ID header by TenantResolver (default tenant without it)
+ * - Ids of another tenant's projects answer 404 NOT FOUND
+ * 
+ * Safe retries:
+ * - POST and PUT accept an Idempotency-Key header; a retry with the same key
+ *   gets the first response again instead of creating a duplicate
+ *   (see IdempotencyService)
  */
 @RestController
 @RequestMapping("/api/projects")
-@CrossOrigin(origins = "*") // Allow requests from any origin (for development)
+@CrossOrigin(origins = "*", // Allow requests from any origin (for development)
+        exposedHeaders = ProjectController.CHANGE_SEQUENCE_HEADER)
 public class ProjectController {
 
+    public static final String CHANGE_SEQUENCE_HEADER = "X-Change-Sequence";
+
+    private static final List<MediaType> BINARY_TYPES = List.of(
+            new MediaType("application", "x-jackson-smile"),
+            new MediaType("application", "cbor"),
+            ProjectProtobufHttpMessageConverter.APPLICATION_PROTOBUF);
+
     private final ProjectService projectService;
+    private final ProjectListSnapshot projectListSnapshot;
+    private final ProjectChangeFeed projectChangeFeed;
+    private final IdempotencyService idempotencyService;
+    private final ProjectTransferService projectTransferService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor-based dependency injection
      */
     @Autowired
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ProjectListSnapshot projectListSnapshot,
+                             ProjectChangeFeed projectChangeFeed, IdempotencyService idempotencyService,
+                             ProjectTransferService projectTransferService, ObjectMapper objectMapper) {
         this.projectService = projectService;
+        this.projectListSnapshot = projectListSnapshot;
+        this.projectChangeFeed = projectChangeFeed;
+        this.idempotencyService = idempotencyService;
+        this.projectTransferService = projectTransferService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * GET /api/projects
      * Get all projects
+     * JSON is served from the pre-serialized snapshot when it is current (gzip if
+     * accepted), otherwise and for binary formats through the message converters
+     * The X-Change-Sequence header is the change feed position the list is current
+     * as of; subscribe to /changes from it to receive every later change
      * 
-     * @return List of all projects with 200 OK status
+     * @return List of all projects with 200 OK status, or 304 NOT MODIFIED
      */
     @GetMapping
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
+    public ResponseEntity<?> getAllProjects(WebRequest request, HttpServletResponse response) {
+        // Read before the list, so the list contains at least every change up to it;
+        // also sent with 304, which refreshes the header of the client's cached copy
+        response.setHeader(CHANGE_SEQUENCE_HEADER, Long.toString(projectChangeFeed.getCurrentSequence()));
+
+        long version = projectService.getCatalogVersion();
+        String eTag = catalogETag(version);
+        if (request.checkNotModified(eTag, projectService.getCatalogLastModified())) {
+            return null;
+        }
+
+        ProjectListSnapshot.Snapshot snapshot = acceptsSnapshot(request) ? projectListSnapshot.get(version) : null;
+        if (snapshot != null) {
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (snapshot.gzip() != null && acceptsGzip(request)) {
+                return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+            }
+            return ok.body(snapshot.json());
+        }
+
         List<ProjectDTO> projects = projectService.getAllProjects();
         return new ResponseEntity<>(projects, HttpStatus.OK);
     }
 
+    /**
+     * GET /api/projects?fields=id,title
+     * Get all projects with only the listed fields (sparse fieldset)
+     * 
+     * @param fields Field names, see ProjectService.SPARSE_FIELDS
+     * @return Projects as field maps with 200 OK status, or 304 NOT MODIFIED
+     */
+    @GetMapping(params = {"fields", "!limit", "!tech"})
+    public ResponseEntity<List<Map<String, Object>>> getAllProjectFields(
+            @RequestParam List<String> fields,
+            WebRequest request) {
+        String eTag = catalogETag(projectService.getCatalogVersion());
+        if (request.checkNotModified(eTag, projectService.getCatalogLastModified())) {
+            return null;
+        }
+        List<Map<String, Object>> projects = projectService.getAllProjectFields(fields);
+        return new ResponseEntity<>(projects, HttpStatus.OK);
+    }
+
+    /**
+     * GET /api/projects?after={id}&limit={n}[&fields=id,title]
+     * Get one page of projects, ordered by id
+     * 
+     * @param after Last id of the previous page (omit for the first page)
+     * @param limit Page size
+     * @param fields Optional sparse fieldset, see ProjectService.SPARSE_FIELDS
+     * @return Page of projects with the cursor for the next page, 200 OK status
+     */
+    @GetMapping(params = {"limit", "!tech"})
+    public ResponseEntity<ProjectPage<?>> getProjectsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request) {
+        String eTag = catalogETag(projectService.getCatalogVersion());
+        if (request.checkNotModified(eTag, projectService.getCatalogLastModified())) {
+            return null;
+        }
+        ProjectPage<?> page = fields != null
+                ? projectService.getProjectFieldsPage(fields, after, limit)
+                : projectService.getProjectsPage(after, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * GET /api/projects/stream
+     * Stream all projects as a JSON array
+     * Rows are written as they are read from the database, without building the full list
+     * 
+     * @return Streaming JSON array of projects with 200 OK status
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllProjects() {
+        StreamingResponseBody body = forCurrentTenant(outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                projectService.streamAllProjects(project -> {
+                    try {
+                        generator.writeObject(project);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * GET /api/projects/export
+     * Export all projects for backups and migrations
+     * Streamed from a database cursor, in constant memory
+     * 
+     * @param format "ndjson" (default, one JSON object per line) or "csv" (with header row)
+     * @return Streaming export with 200 OK status
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ProjectTransferService.Format transferFormat = transferFormat(format);
+        StreamingResponseBody body = forCurrentTenant(outputStream ->
+                projectTransferService.exportProjects(transferFormat, outputStream));
+        return ResponseEntity.ok()
+                .contentType(transferFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"projects." + transferFormat.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
+    /**
+     * POST /api/projects/import
+     * Import projects from an NDJSON (application/x-ndjson) or CSV (text/csv) body
+     * Parsed as it arrives and written in batched transactions; if the import fails,
+     * sending the same body again with the returned importId resumes after the last
+     * committed batch
+     * 
+     * @param importId Import to resume, or none to start a new one
+     * @return Import summary with 200 OK status, or 400 BAD REQUEST for malformed input
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json", "text/csv"})
+    public ResponseEntity<ImportResult> importProjects(
+            @RequestParam(required = false) String importId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        boolean csv = contentType.isCompatibleWith(ProjectTransferService.Format.CSV.getMediaType());
+        ProjectTransferService.Format format = csv
+                ? ProjectTransferService.Format.CSV
+                : ProjectTransferService.Format.NDJSON;
+        return ResponseEntity.ok(projectTransferService.importProjects(format, body, importId));
+    }
+
+    /**
+     * GET /api/projects?tech={a,b}&match={all|any}
+     * Get projects that use the given tech-stack tags
+     * 
+     * @param tech Comma-separated tags
+     * @param match "all" (default): every tag must be used; "any": at least one
+     * @return Matching projects ordered by id with 200 OK status
+     */
+    @GetMapping(params = "tech")
+    public ResponseEntity<List<ProjectDTO>> getProjectsByTech(
+            @RequestParam List<String> tech,
+            @RequestParam(defaultValue = "all") String match) {
+        return ResponseEntity.ok(projectService.getProjectsByTech(tech, isMatchAll(match)));
+    }
+
+    /**
+     * GET /api/projects/changes
+     * Server-Sent Events stream of project changes ("change" events with a
+     * ProjectChange body; "reset" when missed changes can no longer be replayed)
+     * 
+     * @param lastEventId Sequence of the last change seen; sent by EventSource on reconnect
+     * @param since Starting sequence for the first connect (X-Change-Sequence of the list
+     *              response); the Last-Event-ID header takes precedence
+     * @return Open event stream
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(value = "lastEventId", required = false) Long since,
+            HttpServletRequest request) {
+        return projectChangeFeed.subscribe(lastEventId != null ? lastEventId : since, request.getRemoteAddr());
+    }
+
+    /**
+     * GET /api/projects/tech-facets?tech={a,b}&match={all|any}
+     * Count projects per tech-stack tag
+     * 
+     * @param tech Optional comma-separated tags restricting the projects counted
+     * @param match "all" (default) or "any", applied to tech
+     * @return Tags with their project counts, most used first, with 200 OK status
+     */
+    @GetMapping("/tech-facets")
+    public ResponseEntity<List<TechFacet>> getTechFacets(
+            @RequestParam(required = false) List<String> tech,
+            @RequestParam(defaultValue = "all") String match) {
+        return ResponseEntity.ok(projectService.getTechFacets(tech, isMatchAll(match)));
+    }
+
+    /**
+     * GET /api/projects/search?q={text}&limit={n}
+     * Full-text search over title, description and tech stack
+     * 
+     * @param q Search text; every word must match, the last letters may be omitted
+     * @param limit Maximum number of results (default 20)
+     * @return Matching projects ordered by relevance with 200 OK status
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchResult>> searchProjects(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(projectService.searchProjects(q, limit));
+    }
+
     /**
      * GET /api/projects/{id}
      * Get project by ID
      * 
      * @param id Project ID
-     * @return Project with 200 OK status, or 404 NOT FOUND if not exists
+     * @return Project with 200 OK status, 304 NOT MODIFIED, or 404 NOT FOUND if not exists
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id, WebRequest request) {
         ProjectDTO project = projectService.getProjectById(id);
+        if (request.checkNotModified(projectETag(project))) {
+            return null;
+        }
         return new ResponseEntity<>(project, HttpStatus.OK);
     }
 
@@ -76,12 +361,21 @@ public class ProjectController {
      * Create new project
      * 
      * @param projectDTO Project data (validated)
-     * @return Created project with 201 CREATED status
+     * @param idempotencyKey Optional key that makes retries return the first response
+     * @return Created project with 201 CREATED status (the same project again for a
+     *         repeated Idempotency-Key), or 422 UNPROCESSABLE ENTITY if the key was
+     *         used for a different request
      */
     @PostMapping
-    public ResponseEntity<ProjectDTO> createProject(@Valid @RequestBody ProjectDTO projectDTO) {
-        ProjectDTO createdProject = projectService.createProject(projectDTO);
-        return new ResponseEntity<>(createdProject, HttpStatus.CREATED);
+    public ResponseEntity<ProjectDTO> createProject(
+            @Valid @RequestBody ProjectDTO projectDTO,
+            @RequestHeader(value = IdempotencyService.KEY_HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "POST", "/api/projects", null, projectDTO, () -> {
+            ProjectDTO createdProject = projectService.createProject(projectDTO);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .eTag(projectETag(createdProject))
+                    .body(createdProject);
+        });
     }
 
     /**
@@ -90,14 +384,23 @@ public class ProjectController {
      * 
      * @param id Project ID
      * @param projectDTO Updated project data (validated)
-     * @return Updated project with 200 OK status, or 404 NOT FOUND if not exists
+     * @param ifMatch Optional ETag the client last saw
+     * @param idempotencyKey Optional key that makes retries return the first response
+     * @return Updated project with 200 OK status, 404 NOT FOUND if not exists,
+     *         or 412 PRECONDITION FAILED if the ETag is out of date
      */
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectDTO projectDTO) {
-        ProjectDTO updatedProject = projectService.updateProject(id, projectDTO);
-        return new ResponseEntity<>(updatedProject, HttpStatus.OK);
+            @Valid @RequestBody ProjectDTO projectDTO,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestHeader(value = IdempotencyService.KEY_HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "PUT", "/api/projects/" + id, ifMatch, projectDTO, () -> {
+            ProjectDTO updatedProject = projectService.updateProject(id, projectDTO, parseIfMatch(id, ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(projectETag(updatedProject))
+                    .body(updatedProject);
+        });
     }
 
     /**
@@ -105,11 +408,157 @@ public class ProjectController {
      * Delete project
      * 
      * @param id Project ID
-     * @return 204 NO CONTENT status on success, or 404 NOT FOUND if not exists
+     * @param ifMatch Optional ETag the client last saw
+     * @return 204 NO CONTENT status on success, 404 NOT FOUND if not exists,
+     *         or 412 PRECONDITION FAILED if the ETag is out of date
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
+    public ResponseEntity<Void> deleteProject(
+            @PathVariable Long id,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        projectService.deleteProject(id, parseIfMatch(id, ifMatch));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * POST /api/projects/batch
+     * Create many projects in one transaction
+     * 
+     * @param projectDTOs Projects to create (validated per item)
+     * @return Per-item results with 200 OK status
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createProjects(@RequestBody List<ProjectDTO> projectDTOs) {
+        return ResponseEntity.ok(projectService.createProjects(projectDTOs));
+    }
+
+    /**
+     * PUT /api/projects/batch
+     * Update many projects in one transaction
+     * 
+     * @param projectDTOs Projects to update; each needs an id, version is optional
+     * @return Per-item results with 200 OK status
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResponse> updateProjects(@RequestBody List<ProjectDTO> projectDTOs) {
+        return ResponseEntity.ok(projectService.updateProjects(projectDTOs));
+    }
+
+    /**
+     * DELETE /api/projects/batch
+     * Delete many projects in one transaction
+     * 
+     * @param ids Ids of the projects to delete
+     * @return Per-item results with 200 OK status
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteProjects(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(projectService.deleteProjects(ids));
+    }
+
+    /**
+     * Helper method: Run a streamed body for the tenant of this request
+     * The body is written on another thread, after TenantResolver has unbound the tenant
+     */
+    private static StreamingResponseBody forCurrentTenant(StreamingResponseBody body) {
+        String tenantId = TenantContext.current();
+        return outputStream -> {
+            TenantContext.bind(tenantId);
+            try {
+                body.writeTo(outputStream);
+            } finally {
+                TenantContext.clear();
+            }
+        };
+    }
+
+    /**
+     * Helper method: Parse the match parameter of tag filters
+     */
+    private static boolean isMatchAll(String match) {
+        if (match.equalsIgnoreCase("all")) {
+            return true;
+        }
+        if (match.equalsIgnoreCase("any")) {
+            return false;
+        }
+        throw new IllegalArgumentException("match must be 'all' or 'any'");
+    }
+
+    /**
+     * Helper method: Weak ETag of one project, W/"{id}.{version}"
+     */
+    private static String projectETag(ProjectDTO project) {
+        return "W/\"" + project.getId() + "." + project.getVersion() + "\"";
+    }
+
+    /**
+     * Helper method: Whether the JSON snapshot may answer the request
+     * False when the client asks for a binary format (Smile, CBOR, Protobuf)
+     */
+    private static boolean acceptsSnapshot(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .noneMatch(type -> BINARY_TYPES.contains(new MediaType(type.getType(), type.getSubtype())));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Helper method: Whether the client accepts a gzip-encoded body
+     */
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**
+     * Helper method: Weak ETag of the whole catalog, W/"c{catalogVersion}"
+     */
+    private static String catalogETag(long catalogVersion) {
+        return "W/\"c" + catalogVersion + "\"";
+    }
+
+    /**
+     * Helper method: Parse the format parameter of the export
+     */
+    private static ProjectTransferService.Format transferFormat(String format) {
+        try {
+            return ProjectTransferService.Format.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown format '" + format + "', allowed: ndjson, csv");
+        }
+    }
+
+    /**
+     * Helper method: Extract the expected version from an If-Match header
+     * 
+     * @return null when the header is absent or "*" (no version check)
+     * The W/ prefix is optional, only the version in the ETag is compared
+     * 
+     * @throws PreconditionFailedException if the ETag is malformed or for another project
+     */
+    private static Long parseIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.startsWith("W/")) {
+            eTag = eTag.substring(2);
+        }
+        String prefix = "\"" + id + ".";
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException("If-Match does not match project " + id + ": " + eTag);
+        }
+        try {
+            return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match project " + id + ": " + eTag);
+        }
+    }
 }
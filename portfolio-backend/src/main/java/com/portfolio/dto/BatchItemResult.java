@@ -0,0 +1,29 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batch Item Result DTO
+ * 
+ * Outcome of one item of a batch request.
+ * status uses HTTP status codes (201, 200, 204, 400, 404, 412) so clients
+ * can handle each item the same way as the single-item endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+
+    // Position of the item in the request body
+    private int index;
+
+    private Long id;
+
+    private Long version;
+
+    private int status;
+
+    private String message;
+}
@@ -0,0 +1,31 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Batch Response DTO
+ * 
+ * Summary and per-item results of a batch create/update/delete request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+
+    private int total;
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<BatchItemResult> results;
+
+    public static BatchResponse of(List<BatchItemResult> results) {
+        int succeeded = (int) results.stream().filter(r -> r.getStatus() < 300).count();
+        return new BatchResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
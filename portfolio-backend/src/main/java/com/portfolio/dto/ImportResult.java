@@ -0,0 +1,36 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Import Result DTO
+ * 
+ * Outcome of a bulk import (POST /api/projects/import).
+ * Counts cover the whole import including earlier, resumed runs; errors only
+ * list the rejected records of this run (index = record number, starting at 1).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+
+    // Pass as ?importId= to resume this import
+    private String importId;
+
+    // Records committed by earlier runs and skipped by this one
+    private long resumedAfter;
+
+    private long processed;
+
+    private long imported;
+
+    private long failed;
+
+    private boolean completed;
+
+    private List<BatchItemResult> errors;
+}
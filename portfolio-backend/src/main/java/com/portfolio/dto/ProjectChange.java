@@ -0,0 +1,28 @@
+package com.portfolio.dto;
+
+import com.portfolio.event.ProjectChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Project Change DTO
+ *
+ * One entry of the change feed (GET /api/projects/changes).
+ * The sequence is also the SSE event id, so a reconnecting client resumes
+ * after it with the Last-Event-ID header.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectChange {
+
+    private long sequence;
+
+    private ProjectChangedEvent.Type type;
+
+    private Long projectId;
+
+    // New state of the project; null for DELETED
+    private ProjectDTO project;
+}
@@ -1,5 +1,6 @@
 package com.portfolio.dto;
 
+import com.portfolio.links.LinkStatus;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -34,4 +35,18 @@ public class ProjectDTO {
     private String githubUrl;
 
     private String liveDemoUrl;
+
+    /**
+     * Link check results (read-only, ignored on create/update)
+     * Reset to UNKNOWN when the URL changes
+     */
+    private LinkStatus githubStatus;
+
+    private LinkStatus liveDemoStatus;
+
+    /**
+     * Row version (read-only, ignored on create/update)
+     * Matches the version part of the ETag header
+     */
+    private Long version;
 }
@@ -0,0 +1,29 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Project Page DTO
+ * 
+ * One slice of the project list for keyset (cursor) pagination.
+ * 
+ * Clients pass nextCursor back as the "after" parameter to get the following page.
+ * nextCursor is null when there are no more projects.
+ * 
+ * Items are ProjectDTOs, or field maps when a sparse fieldset was requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectPage<T> {
+
+    private List<T> items;
+
+    private Long nextCursor;
+
+    private int limit;
+}
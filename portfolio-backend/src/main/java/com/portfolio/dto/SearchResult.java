@@ -0,0 +1,21 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Search Result DTO
+ * 
+ * One project matched by a full-text search, with its relevance score
+ * (higher is better).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+
+    private ProjectDTO project;
+
+    private double score;
+}
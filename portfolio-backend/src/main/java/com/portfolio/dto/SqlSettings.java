@@ -0,0 +1,30 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SQL Observability Settings DTO
+ * 
+ * Runtime settings of the SQL statement recorder (see SqlStatementRecorder).
+ * Can be read and changed through the "sql" Actuator endpoint without a restart.
+ * In an update, null fields keep their current value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlSettings {
+
+    // Record statements at all (timing, aggregation, N+1 detection)
+    private Boolean enabled;
+
+    // Statements slower than this are logged as slow queries
+    private Long slowThresholdMillis;
+
+    // Fraction of statements logged (0.0 = none, 1.0 = all)
+    private Double sampleRate;
+
+    // Requests issuing more statements than this are flagged as N+1 suspects (0 = off)
+    private Integer requestStatementThreshold;
+}
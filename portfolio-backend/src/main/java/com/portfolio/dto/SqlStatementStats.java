@@ -0,0 +1,26 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SQL Statement Statistics DTO
+ * 
+ * Aggregated executions of one statement shape (literals replaced by '?').
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatementStats {
+
+    private String shape;
+
+    private long count;
+
+    private double totalMillis;
+
+    private double maxMillis;
+
+    private double averageMillis;
+}
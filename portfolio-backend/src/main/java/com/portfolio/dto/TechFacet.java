@@ -0,0 +1,20 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tech Facet DTO
+ * 
+ * A tech-stack tag and the number of projects using it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechFacet {
+
+    private String tag;
+
+    private long count;
+}
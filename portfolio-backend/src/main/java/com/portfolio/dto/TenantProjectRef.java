@@ -0,0 +1,19 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id of a project together with its tenant
+ * Used by background jobs that walk the projects of all tenants (see LinkHealthScheduler)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantProjectRef {
+
+    private Long id;
+
+    private String tenantId;
+}
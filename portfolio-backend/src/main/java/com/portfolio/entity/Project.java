@@ -1,5 +1,7 @@
 package com.portfolio.entity;
 
+import com.portfolio.links.LinkStatus;
+import com.portfolio.tenant.TenantContext;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -26,12 +28,22 @@ public class Project {
 
     /**
      * Primary key - auto-generated ID
-     * @GeneratedValue with IDENTITY strategy lets the database handle ID generation
+     * @GeneratedValue with SEQUENCE strategy and a pooled optimizer: Hibernate reserves
+     * allocationSize ids per sequence call, so inserts can be sent as JDBC batches
+     * (IDENTITY would force one INSERT round trip per row)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Tenant that owns the project (see TenantContext); set on create, never changed
+     * Not part of ProjectDTO: clients only ever see their own tenant's projects
+     */
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId = TenantContext.DEFAULT_TENANT;
+
     /**
      * Project title - required field
      * @NotBlank ensures the title is not null or empty
@@ -65,4 +77,26 @@ public class Project {
      */
     @Column(name = "live_demo_url")
     private String liveDemoUrl;
+
+    /**
+     * Result of the last check of githubUrl (see LinkHealthScheduler)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "github_status", nullable = false, length = 16)
+    private LinkStatus githubStatus = LinkStatus.UNKNOWN;
+
+    /**
+     * Result of the last check of liveDemoUrl
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "live_demo_status", nullable = false, length = 16)
+    private LinkStatus liveDemoStatus = LinkStatus.UNKNOWN;
+
+    /**
+     * Row version for optimistic locking
+     * Incremented by Hibernate on every update; also used to build the HTTP ETag
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,490 @@
+package com.portfolio.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.ProjectChange;
+import com.portfolio.exception.TooManySubscriptionsException;
+import com.portfolio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Project Change Feed
+ *
+ * Fans ProjectChangedEvent out to Server-Sent Events subscribers
+ * (GET /api/projects/changes).
+ *
+ * This class demonstrates:
+ * - Design Pattern: Observer / Publish-Subscribe
+ * - Data Structure: Ring buffer of recent changes for resume-from-offset
+ * - Concurrency: Per-subscriber bounded queues drained by a small sender pool
+ *
+ * Every change gets a sequence number (the SSE event id). A client that
+ * reconnects with Last-Event-ID is sent the changes it missed from the ring
+ * buffer; if they are no longer retained it gets a "reset" event and should
+ * reload the list. GET /api/projects returns the current sequence (read before
+ * the list), so a first subscription can start from it and no change made
+ * between loading the list and connecting is lost.
+ *
+ * Subscribers only receive the changes of their own tenant (TenantContext at
+ * subscribe time); sequence numbers are shared by all tenants, so a client
+ * may see gaps between them.
+ *
+ * Subscribers are async servlet requests, so idle subscribers hold no thread.
+ * Publishing only enqueues; the sender pool does the socket writes. A
+ * subscriber whose queue overflows (a slow consumer) is disconnected instead of
+ * buffering without limit; it resumes from its last event id on reconnect.
+ *
+ * A write to a stalled socket blocks its sender thread until the servlet
+ * container's write timeout. A subscriber whose send takes longer than
+ * portfolio.changes.send-timeout is disconnected, and its thread stops counting
+ * against the pool (one more thread is allowed until the write returns), so
+ * stalled clients cannot take the senders away from everyone else. At most
+ * max-stalled-sends extra threads are started; once they are all blocked,
+ * every subscriber caught in a send is disconnected without waiting for the
+ * timeout, and new subscriptions are refused until threads come back.
+ *
+ * Limits: at most max-per-client subscriptions per client address and
+ * max-per-tenant per tenant; more answer 429 TOO MANY REQUESTS.
+ */
+@Component
+public class ProjectChangeFeed {
+
+    public static final String CHANGE_EVENT = "change";
+    public static final String RESET_EVENT = "reset";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${portfolio.changes.buffer-size:1024}")
+    private int bufferSize;
+
+    @Value("${portfolio.changes.subscriber-queue:256}")
+    private int subscriberQueue;
+
+    @Value("${portfolio.changes.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${portfolio.changes.max-per-client:4}")
+    private int maxPerClient;
+
+    @Value("${portfolio.changes.max-per-tenant:200}")
+    private int maxPerTenant;
+
+    private final int senderThreads;
+    private final int maxStalledSends;
+    private final long sendTimeoutNanos;
+
+    // Sender threads blocked in a send that passed the deadline; guarded by "senders"
+    private int stalledSenders;
+
+    // Seeded with the boot time so sequences keep growing across restarts
+    // and ids from an earlier run are detected as too old
+    private long sequence = System.currentTimeMillis() * 1000;
+
+    // Recent changes, oldest first; guarded by "this" together with sequence
+    private final Deque<Event> buffer = new ArrayDeque<>();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Subscribers with a send in progress, including ones closed meanwhile
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+
+    // Open subscriptions per client address and per tenant; entries at zero are removed
+    private final Map<String, Integer> perClient = new ConcurrentHashMap<>();
+    private final Map<String, Integer> perTenant = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Counter droppedSubscribers;
+
+    @Autowired
+    public ProjectChangeFeed(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${portfolio.changes.sender-threads:4}") int senderThreads,
+                             @Value("${portfolio.changes.heartbeat:15s}") Duration heartbeatInterval,
+                             @Value("${portfolio.changes.send-timeout:10s}") Duration sendTimeout,
+                             @Value("${portfolio.changes.max-stalled-sends:16}") int maxStalledSends) {
+        this.objectMapper = objectMapper;
+        this.senderThreads = senderThreads;
+        this.maxStalledSends = maxStalledSends;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        // Grows beyond senderThreads only while stalled sends are excluded (see resizeSenders)
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads + maxStalledSends, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("change-feed-sender"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("change-feed-heartbeat"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long checkInterval = Math.max(sendTimeout.toMillis() / 2, 100);
+        this.heartbeat.scheduleAtFixedRate(this::disconnectStalled,
+                checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("portfolio.changes.subscribers", subscribers, Set::size)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("portfolio.changes.dropped")
+                .description("Subscribers disconnected because their queue overflowed or a send timed out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a subscription to the changes of the current tenant
+     * Throws TooManySubscriptionsException if the client or the tenant is at its limit,
+     * or if all extra sender threads are blocked by stalled clients
+     *
+     * @param lastEventId Sequence of the last change the client saw, or null for live changes only
+     * @param clientId Client address the per-client limit applies to
+     */
+    public SseEmitter subscribe(Long lastEventId, String clientId) {
+        String tenantId = TenantContext.current();
+        if (isSaturated()) {
+            throw new TooManySubscriptionsException("Change feed is busy, retry later");
+        }
+        if (!tryIncrement(perClient, clientId, maxPerClient)) {
+            throw new TooManySubscriptionsException(
+                    "Too many open change feed subscriptions for this client (at most " + maxPerClient + ")");
+        }
+        if (!tryIncrement(perTenant, tenantId, maxPerTenant)) {
+            decrement(perClient, clientId);
+            throw new TooManySubscriptionsException(
+                    "Too many open change feed subscriptions for tenant '" + tenantId + "'");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, tenantId, clientId);
+        emitter.onCompletion(subscriber::unregister);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                List<Event> missed = missedSince(lastEventId, subscriber.tenantId);
+                if (missed == null || missed.size() > subscriberQueue) {
+                    subscriber.offer(SseEmitter.event()
+                            .id(Long.toString(sequence))
+                            .name(RESET_EVENT)
+                            .data(sequence));
+                } else {
+                    missed.forEach(event -> subscriber.offer(event.toSse()));
+                }
+            }
+            if (!subscriber.closed) {
+                subscribers.add(subscriber);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Sequence of the latest published change
+     * Changes are published after their commit (and after the catalog caches
+     * were invalidated), so a list read after this call contains every change
+     * up to the returned sequence
+     */
+    public synchronized long getCurrentSequence() {
+        return sequence;
+    }
+
+    /**
+     * Number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Publish a change to every subscriber (after commit)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent changed) {
+        synchronized (this) {
+            ProjectChange change = new ProjectChange(++sequence, changed.getType(),
+                    changed.getProjectId(), changed.getProject());
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(change);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize project change", e);
+            }
+
+            Event event = new Event(change.getSequence(), changed.getTenantId(), json);
+            buffer.addLast(event);
+            if (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.tenantId.equals(event.tenantId())) {
+                    subscriber.offer(event.toSse());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Helper method: Changes of a tenant after lastEventId; caller holds the lock
+     *
+     * @return The missed changes, or null if some of them are no longer buffered
+     */
+    private List<Event> missedSince(long lastEventId, String tenantId) {
+        if (lastEventId > sequence) {
+            return null;
+        }
+        if (lastEventId < sequence && (buffer.isEmpty() || buffer.peekFirst().sequence() > lastEventId + 1)) {
+            return null;
+        }
+        List<Event> missed = new ArrayList<>();
+        for (Event event : buffer) {
+            if (event.sequence() > lastEventId && event.tenantId().equals(tenantId)) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * Helper method: Comment line that keeps proxies from closing idle
+     * connections and detects clients that went away
+     */
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    /**
+     * Helper method: Disconnect subscribers whose current send passed the deadline,
+     * or every subscriber in a send once no extra thread is left
+     */
+    private void disconnectStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            subscriber.checkSend(now, isSaturated());
+        }
+    }
+
+    /**
+     * Helper method: Keep senderThreads threads for healthy subscribers while
+     * stalledDelta more (or fewer) threads are blocked in a timed-out send,
+     * up to maxStalledSends extra threads
+     */
+    private void resizeSenders(int stalledDelta) {
+        synchronized (senders) {
+            stalledSenders += stalledDelta;
+            senders.setCorePoolSize(senderThreads + Math.min(stalledSenders, maxStalledSends));
+        }
+    }
+
+    /**
+     * Helper method: All extra sender threads are blocked in stalled sends
+     */
+    private boolean isSaturated() {
+        synchronized (senders) {
+            return stalledSenders >= maxStalledSends;
+        }
+    }
+
+    private static boolean tryIncrement(Map<String, Integer> counts, String key, int max) {
+        boolean[] admitted = new boolean[1];
+        counts.compute(key, (k, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= max) {
+                return count;
+            }
+            admitted[0] = true;
+            return current + 1;
+        });
+        return admitted[0];
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One change, serialized once for all subscribers
+     */
+    private record Event(long sequence, String tenantId, String json) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                    .id(Long.toString(sequence))
+                    .name(CHANGE_EVENT)
+                    .data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * One connection with its bounded outgoing queue
+     */
+    private class Subscriber {
+
+        private static final int IDLE = 0;
+        private static final int SENDING = 1;
+        private static final int STALLED = 2;
+
+        private final SseEmitter emitter;
+        private final String tenantId;
+        private final String clientId;
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile long sendStarted;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, String tenantId, String clientId) {
+            this.emitter = emitter;
+            this.tenantId = tenantId;
+            this.clientId = clientId;
+        }
+
+        /**
+         * Enqueue an event without blocking; disconnect on overflow
+         */
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (queued.incrementAndGet() > subscriberQueue) {
+                droppedSubscribers.increment();
+                close();
+                return;
+            }
+            queue.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter completed meanwhile
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                // close() leaves completing to a running drain, which holds the emitter
+                emitter.complete();
+            } else if (!queue.isEmpty()) {
+                // An event may have been added after the last poll
+                scheduleDrain();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStarted = System.nanoTime();
+            sendState.set(SENDING);
+            sending.add(this);
+            try {
+                emitter.send(event);
+            } finally {
+                sending.remove(this);
+                if (!sendState.compareAndSet(SENDING, IDLE)) {
+                    // Timed out meanwhile (see checkSend): this thread is back in the pool
+                    resizeSenders(-1);
+                }
+            }
+        }
+
+        /**
+         * Disconnect if the current send started more than the send timeout ago,
+         * or is still running while no extra sender thread is left
+         */
+        void checkSend(long now, boolean saturated) {
+            if (sendState.get() == SENDING && (saturated || now - sendStarted > sendTimeoutNanos)
+                    && sendState.compareAndSet(SENDING, STALLED)) {
+                resizeSenders(1);
+                if (!closed) {
+                    droppedSubscribers.increment();
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Stop delivering to this subscriber and give back its place in the limits
+         */
+        void unregister() {
+            if (registered.compareAndSet(true, false)) {
+                subscribers.remove(this);
+                decrement(perClient, clientId);
+                decrement(perTenant, tenantId);
+            }
+        }
+
+        /**
+         * Disconnect; completing is left to the running drain if there is one, or
+         * to the sender pool, since the emitter may be locked by a write to a slow socket
+         */
+        void close() {
+            if (!closed) {
+                closed = true;
+                unregister();
+                queue.clear();
+                if (draining.get()) {
+                    return;
+                }
+                try {
+                    senders.execute(emitter::complete);
+                } catch (RejectedExecutionException e) {
+                    emitter.complete();
+                }
+            }
+        }
+    }
+}
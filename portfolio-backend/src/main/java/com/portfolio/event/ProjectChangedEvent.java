@@ -0,0 +1,38 @@
+package com.portfolio.event;
+
+import com.portfolio.dto.ProjectDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Project Changed Event
+ * 
+ * Published by ProjectService after a project is created, updated or deleted.
+ * 
+ * This class demonstrates:
+ * - Design Pattern: Observer Pattern (Spring application events)
+ * - OOP Principle: Loose Coupling (the service does not know who listens)
+ * 
+ * Listeners should use @TransactionalEventListener(fallbackExecution = true)
+ * so that changes made inside a transaction are only seen after commit.
+ */
+@Data
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private Type type;
+
+    private Long projectId;
+
+    // New state of the project; null for DELETED
+    private ProjectDTO project;
+
+    // Tenant that owns the project; listeners keep per-tenant state
+    private String tenantId;
+}
@@ -0,0 +1,134 @@
+package com.portfolio.exception;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.ratelimit.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Error Logger
+ *
+ * Logs unexpected exceptions without letting an error storm slow down the
+ * requests that hit it or flood the log.
+ *
+ * This class demonstrates:
+ * - Asynchronous logging: request threads only enqueue, one background thread
+ *   formats and writes (a full queue drops the entry instead of blocking)
+ * - Deduplication: exceptions with the same fingerprint (type, throwing frame,
+ *   root cause type) are logged with stack trace at most once per interval; the
+ *   next log line reports how many were suppressed in between
+ * - Rate limiting: a token bucket bounds log lines per second over all fingerprints
+ *
+ * Output is structured as key=value pairs, like the SQL log:
+ * error_unhandled fingerprint=... type=... request="..." occurrences=... suppressed=... message="..."
+ *
+ * Every exception is still counted in the "portfolio.exceptions" metric.
+ */
+@Component
+public class ErrorLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("portfolio.errors");
+
+    private final Cache<String, Occurrences> fingerprints;
+    private final TokenBucket logBudget;
+    private final long intervalNanos;
+    private final ThreadPoolExecutor writer;
+    private final Counter dropped;
+
+    @Autowired
+    public ErrorLogger(MeterRegistry meterRegistry,
+                       @Value("${portfolio.errors.log-interval:1m}") Duration interval,
+                       @Value("${portfolio.errors.max-logs-per-second:10}") double maxLogsPerSecond,
+                       @Value("${portfolio.errors.queue-size:1000}") int queueSize) {
+        this.intervalNanos = interval.toNanos();
+        this.logBudget = new TokenBucket(maxLogsPerSecond, (int) Math.max(1, maxLogsPerSecond), System.nanoTime());
+        this.fingerprints = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(interval.multipliedBy(10))
+                .build();
+        this.dropped = Counter.builder("portfolio.errors.log.dropped")
+                .description("Error log entries dropped because the log queue was full")
+                .register(meterRegistry);
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "error-logger");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> dropped.increment());
+    }
+
+    /**
+     * Record an unexpected exception; returns immediately
+     *
+     * @param ex The exception
+     * @param request Request description, e.g. "uri=/api/projects"
+     */
+    public void report(Throwable ex, String request) {
+        String fingerprint = fingerprint(ex);
+        Occurrences occurrences = fingerprints.get(fingerprint, key -> new Occurrences());
+        long count = occurrences.total.incrementAndGet();
+
+        long now = System.nanoTime();
+        long last = occurrences.lastLoggedNanos.get();
+        boolean due = last == 0 || now - last >= intervalNanos;
+        if (!due || !occurrences.lastLoggedNanos.compareAndSet(last, now)) {
+            occurrences.suppressed.incrementAndGet();
+            return;
+        }
+        if (logBudget.tryAcquire(now) > 0) {
+            // Over the global budget: let the next occurrence try again
+            occurrences.lastLoggedNanos.set(last);
+            occurrences.suppressed.incrementAndGet();
+            return;
+        }
+
+        long suppressed = occurrences.suppressed.getAndSet(0);
+        writer.execute(() -> log.error(
+                "error_unhandled fingerprint={} type={} request=\"{}\" occurrences={} suppressed={} message=\"{}\"",
+                fingerprint, ex.getClass().getName(), request, count, suppressed, ex.getMessage(), ex));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Helper method: Same type, thrown at the same place, with the same root cause type
+     */
+    private static String fingerprint(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        StackTraceElement[] trace = ex.getStackTrace();
+        String frame = trace.length > 0 ? trace[0].getClassName() + "." + trace[0].getMethodName()
+                + ":" + trace[0].getLineNumber() : "";
+        return Integer.toHexString((ex.getClass().getName() + "@" + frame + "<" + root.getClass().getName()).hashCode());
+    }
+
+    /**
+     * Occurrences of one fingerprint
+     */
+    private static class Occurrences {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicLong lastLoggedNanos = new AtomicLong();
+    }
+}
@@ -1,8 +1,15 @@
 package com.portfolio.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -11,6 +18,7 @@ import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Global Exception Handler
@@ -24,27 +32,194 @@ import java.util.Map;
  * 
  * Benefits:
  * - Single place to handle all exceptions
- * - Consistent error response format
+ * - Consistent error response format (always JSON, whatever format was negotiated)
  * - Proper HTTP status codes
+ * - Every handled exception is counted in the "portfolio.exceptions" metric
+ *   (tags: type, status)
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    private final ErrorLogger errorLogger;
+
+    // One counter per exception type; a type is always answered with the same status
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GlobalExceptionHandler(MeterRegistry meterRegistry, ErrorLogger errorLogger) {
+        this.meterRegistry = meterRegistry;
+        this.errorLogger = errorLogger;
+    }
+
     /**
      * Handle ResourceNotFoundException
      * Returns 404 NOT FOUND status
+     * Hot path (crawlers probing ids): no logging, the exception carries no stack trace,
+     * and message and details are only formatted when the body is written
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
 
+        ErrorResponse errorResponse = new LazyErrorResponse(
+                LocalDateTime.now(),
+                ex::getMessage,
+                () -> request.getDescription(false),
+                HttpStatus.NOT_FOUND.value());
+
+        count(ex, HttpStatus.NOT_FOUND);
+        return respond(HttpStatus.NOT_FOUND, errorResponse);
+    }
+
+    /**
+     * Handle PreconditionFailedException (If-Match version mismatch)
+     * Returns 412 PRECONDITION FAILED status
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
                 ex.getMessage(),
                 request.getDescription(false),
-                HttpStatus.NOT_FOUND.value());
+                HttpStatus.PRECONDITION_FAILED.value());
+
+        count(ex, HttpStatus.PRECONDITION_FAILED);
+        return respond(HttpStatus.PRECONDITION_FAILED, errorResponse);
+    }
+
+    /**
+     * Handle concurrent modification detected by the @Version column
+     * Returns 409 CONFLICT status
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Resource was modified concurrently, please reload and retry",
+                request.getDescription(false),
+                HttpStatus.CONFLICT.value());
+
+        count(ex, HttpStatus.CONFLICT);
+        return respond(HttpStatus.CONFLICT, errorResponse);
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    /**
+     * Handle RequestInProgressException (Idempotency-Key still being processed)
+     * Returns 409 CONFLICT status
+     */
+    @ExceptionHandler(RequestInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleRequestInProgressException(
+            RequestInProgressException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                HttpStatus.CONFLICT.value());
+
+        count(ex, HttpStatus.CONFLICT);
+        return respond(HttpStatus.CONFLICT, errorResponse);
+    }
+
+    /**
+     * Handle ImportInProgressException (same importId imported by two requests at once)
+     * Returns 409 CONFLICT status
+     */
+    @ExceptionHandler(ImportInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleImportInProgressException(
+            ImportInProgressException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                HttpStatus.CONFLICT.value());
+
+        count(ex, HttpStatus.CONFLICT);
+        return respond(HttpStatus.CONFLICT, errorResponse);
+    }
+
+    /**
+     * Handle IdempotencyKeyReusedException (same key, different request)
+     * Returns 422 UNPROCESSABLE ENTITY status
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(
+            IdempotencyKeyReusedException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                HttpStatus.UNPROCESSABLE_ENTITY.value());
+
+        count(ex, HttpStatus.UNPROCESSABLE_ENTITY);
+        return respond(HttpStatus.UNPROCESSABLE_ENTITY, errorResponse);
+    }
+
+    /**
+     * Handle TenantBusyException (tenant over its concurrent request limit)
+     * Returns 429 TOO MANY REQUESTS status with Retry-After
+     */
+    @ExceptionHandler(TenantBusyException.class)
+    public ResponseEntity<ErrorResponse> handleTenantBusyException(
+            TenantBusyException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                HttpStatus.TOO_MANY_REQUESTS.value());
+
+        count(ex, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
+    }
+
+    /**
+     * Handle TooManySubscriptionsException (change feed subscription over a limit)
+     * Returns 429 TOO MANY REQUESTS status with Retry-After
+     */
+    @ExceptionHandler(TooManySubscriptionsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManySubscriptionsException(
+            TooManySubscriptionsException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                HttpStatus.TOO_MANY_REQUESTS.value());
+
+        count(ex, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponse);
+    }
+
+    /**
+     * Handle IllegalArgumentException (invalid request parameters)
+     * Returns 400 BAD REQUEST status
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+            IllegalArgumentException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false),
+                HttpStatus.BAD_REQUEST.value());
+
+        count(ex, HttpStatus.BAD_REQUEST);
+        return respond(HttpStatus.BAD_REQUEST, errorResponse);
     }
 
     /**
@@ -67,7 +242,8 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("errors", errors);
 
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        count(ex, HttpStatus.BAD_REQUEST);
+        return respond(HttpStatus.BAD_REQUEST, response);
     }
 
     /**
@@ -84,7 +260,19 @@ public class GlobalExceptionHandler {
                 ex.getMessage(),
                 HttpStatus.NOT_FOUND.value());
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        count(ex, HttpStatus.NOT_FOUND);
+        return respond(HttpStatus.NOT_FOUND, errorResponse);
+    }
+
+    /**
+     * Handle requests for a format the response cannot be written in
+     * (e.g. Accept: application/x-protobuf on an endpoint without a Protobuf schema)
+     * Returns 406 NOT ACCEPTABLE without a body, since no accepted format can carry one
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleMediaTypeNotAcceptable(HttpMediaTypeNotAcceptableException ex) {
+        count(ex, HttpStatus.NOT_ACCEPTABLE);
+        return new ResponseEntity<>(HttpStatus.NOT_ACCEPTABLE);
     }
 
     /**
@@ -95,8 +283,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
 
-        // Print stack trace to logs for Render dashboard
-        ex.printStackTrace();
+        // Logged asynchronously, deduplicated and rate limited (see ErrorLogger)
+        errorLogger.report(ex, request.getDescription(false));
 
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
@@ -104,6 +292,26 @@ public class GlobalExceptionHandler {
                 ex.getMessage(), // Return actual error message for debugging
                 HttpStatus.INTERNAL_SERVER_ERROR.value());
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        count(ex, HttpStatus.INTERNAL_SERVER_ERROR);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, errorResponse);
+    }
+
+    /**
+     * Helper method: Error response with a JSON body
+     * The content type is set explicitly so the body is written whatever the client
+     * accepts; Accept: application/x-protobuf alone has no converter for ErrorResponse
+     * and would otherwise turn every error into a 500
+     */
+    private static <T> ResponseEntity<T> respond(HttpStatus status, T body) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Helper method: Count a handled exception by type and response status
+     */
+    private void count(Exception ex, HttpStatus status) {
+        counters.computeIfAbsent(ex.getClass(), type -> meterRegistry.counter("portfolio.exceptions",
+                "type", type.getSimpleName(),
+                "status", String.valueOf(status.value()))).increment();
     }
 }
@@ -0,0 +1,15 @@
+package com.portfolio.exception;
+
+/**
+ * Custom Exception for a reused Idempotency-Key
+ * 
+ * This exception is thrown when a client sends an Idempotency-Key that was
+ * already used for a different request (other method, path or body).
+ * Replaying the stored response would be wrong, so the request is refused.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super(String.format("Idempotency-Key '%s' was already used for a different request", key));
+    }
+}
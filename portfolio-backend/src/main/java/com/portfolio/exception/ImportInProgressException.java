@@ -0,0 +1,18 @@
+package com.portfolio.exception;
+
+/**
+ * Custom Exception for an import that another request is running
+ * 
+ * This exception is thrown by ProjectTransferService when the checkpoint of an
+ * importId moved on while this request was importing, i.e. a second request
+ * with the same importId committed records first. The batch that noticed it is
+ * rolled back, so no record is imported twice. The client should retry later
+ * with the same importId; the retry continues after the committed records.
+ */
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(String importId) {
+        super(String.format("Import '%s' is being run by another request, retry later with the same importId",
+                importId));
+    }
+}
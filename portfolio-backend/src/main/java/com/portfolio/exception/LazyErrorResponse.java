@@ -0,0 +1,33 @@
+package com.portfolio.exception;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Error Response whose message and details are built when the body is written
+ *
+ * Used on the not-found hot path: the message is formatted by the exception
+ * (see ResourceNotFoundException) only if a body is actually serialized, and
+ * at most once.
+ */
+class LazyErrorResponse extends ErrorResponse {
+
+    private final Supplier<String> message;
+    private final Supplier<String> details;
+
+    LazyErrorResponse(LocalDateTime timestamp, Supplier<String> message, Supplier<String> details, int status) {
+        super(timestamp, null, null, status);
+        this.message = message;
+        this.details = details;
+    }
+
+    @Override
+    public String getMessage() {
+        return message.get();
+    }
+
+    @Override
+    public String getDetails() {
+        return details.get();
+    }
+}
@@ -0,0 +1,20 @@
+package com.portfolio.exception;
+
+/**
+ * Custom Exception for failed conditional requests
+ * 
+ * This exception is thrown when a client updates or deletes a resource with an
+ * If-Match header whose version no longer matches the stored version
+ * (someone else changed the resource in the meantime).
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String resourceName, Object id, Object currentVersion) {
+        super(String.format("%s with id '%s' has been modified (current version: %s)",
+                resourceName, id, currentVersion));
+    }
+}
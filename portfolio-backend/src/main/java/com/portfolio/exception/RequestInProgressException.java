@@ -0,0 +1,15 @@
+package com.portfolio.exception;
+
+/**
+ * Custom Exception for a request that is still being processed
+ * 
+ * This exception is thrown when a retry arrives with an Idempotency-Key whose
+ * first request has not finished yet (on another instance, or longer than
+ * the wait timeout). The client should retry later to get the stored response.
+ */
+public class RequestInProgressException extends RuntimeException {
+
+    public RequestInProgressException(String key) {
+        super(String.format("A request with Idempotency-Key '%s' is still in progress, retry later", key));
+    }
+}
@@ -9,14 +9,44 @@ package com.portfolio.exception;
  * 
  * This exception is thrown when a requested resource (e.g., Project) is not found
  * It's a RuntimeException, so it doesn't need to be declared in method signatures
+ * 
+ * Performance:
+ * A miss is an expected outcome (crawlers probe random ids), not a bug, so the
+ * exception is cheap to throw:
+ * - no stack trace is captured (the handler never logs one)
+ * - the message is only built when someone asks for it, and at most once
  */
 public class ResourceNotFoundException extends RuntimeException {
 
+    private final String resourceName;
+    private final String fieldName;
+    private final Object fieldValue;
+    private String message;
+
     public ResourceNotFoundException(String message) {
-        super(message);
+        this(message, null, null, null);
     }
 
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
-        super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
+        this(null, resourceName, fieldName, fieldValue);
+    }
+
+    private ResourceNotFoundException(String message, String resourceName, String fieldName, Object fieldValue) {
+        super(null, null, false, false);
+        this.message = message;
+        this.resourceName = resourceName;
+        this.fieldName = fieldName;
+        this.fieldValue = fieldValue;
+    }
+
+    @Override
+    public String getMessage() {
+        // Racy but idempotent: at worst two threads build the same string
+        String result = message;
+        if (result == null) {
+            result = resourceName + " not found with " + fieldName + ": '" + fieldValue + "'";
+            message = result;
+        }
+        return result;
     }
 }
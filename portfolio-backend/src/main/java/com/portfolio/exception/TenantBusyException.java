@@ -0,0 +1,16 @@
+package com.portfolio.exception;
+
+/**
+ * Custom Exception for a tenant that has too many requests running
+ * 
+ * This exception is thrown by TenantResolver when a tenant already uses all of
+ * its portfolio.tenant.max-concurrent-requests, so one busy tenant cannot take
+ * every worker thread and database connection from the others. The client
+ * should retry later.
+ */
+public class TenantBusyException extends RuntimeException {
+
+    public TenantBusyException(String tenantId) {
+        super(String.format("Too many concurrent requests for tenant '%s', retry later", tenantId));
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.exception;
+
+/**
+ * Custom Exception for a change feed subscription over a limit
+ * 
+ * This exception is thrown by ProjectChangeFeed when the client or the tenant
+ * already holds its maximum number of open subscriptions, or when too many
+ * sender threads are blocked by clients that stopped reading. The client
+ * should close unused streams or retry later.
+ */
+public class TooManySubscriptionsException extends RuntimeException {
+
+    public TooManySubscriptionsException(String message) {
+        super(message);
+    }
+}
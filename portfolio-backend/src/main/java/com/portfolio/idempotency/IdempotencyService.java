@@ -0,0 +1,262 @@
+package com.portfolio.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.exception.IdempotencyKeyReusedException;
+import com.portfolio.exception.RequestInProgressException;
+import com.portfolio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency Service
+ *
+ * Makes POST/PUT safe to retry: a request carrying an Idempotency-Key runs at
+ * most once, later requests with the same key get the stored response.
+ *
+ * This class demonstrates:
+ * - Design Pattern: Strategy (the IdempotencyStore decides where keys live)
+ * - Concurrency: Duplicates in flight on this instance wait for the first one
+ *   instead of running again (request coalescing)
+ *
+ * For every key:
+ * 1. A duplicate of a request still running on this instance waits for its outcome
+ *    (at most portfolio.idempotency.wait-timeout, then 409 CONFLICT)
+ * 2. A stored response is replayed with the header Idempotent-Replayed: true;
+ *    one still pending on another instance answers 409 CONFLICT
+ * 3. Otherwise the key is claimed in the store and the request runs; a 2xx
+ *    response is stored, a failure releases the key so the client can retry
+ *
+ * The key is bound to a fingerprint of method, path, If-Match and body. Reusing
+ * it for a different request answers 422 UNPROCESSABLE ENTITY. Keys are scoped
+ * to the tenant (stored as "{tenant}:{key}"), so tenants never see each other's
+ * responses.
+ *
+ * Replayed bodies are stored as JSON and converted back to ProjectDTO, so a
+ * replay still honours the Accept header of the retry.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+
+    // Requests running on this instance, by key
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+
+    @Autowired
+    public IdempotencyService(IdempotencyStore store, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              @Value("${portfolio.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+
+        this.executed = requestCounter(meterRegistry, "executed");
+        this.replayed = requestCounter(meterRegistry, "replayed");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+    }
+
+    /**
+     * Run a project request at most once per Idempotency-Key
+     *
+     * @param key Idempotency-Key header, or null to simply run the request
+     * @param method HTTP method of the request
+     * @param path Request path
+     * @param ifMatch If-Match header (may be null)
+     * @param body Request body
+     * @param request The request itself
+     * @return The response of the request, or the stored response of its first run
+     */
+    public ResponseEntity<ProjectDTO> execute(String key, String method, String path, String ifMatch,
+                                              ProjectDTO body, Supplier<ResponseEntity<ProjectDTO>> request) {
+        if (key == null) {
+            return request.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String fingerprint = fingerprint(method, path, ifMatch, body);
+        String storeKey = TenantContext.current() + ":" + key;
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(storeKey, mine);
+        if (running != null) {
+            coalesced.increment();
+            return toResponse(awaitOutcome(key, fingerprint, running), true);
+        }
+
+        try {
+            Outcome outcome = runOnce(key, storeKey, fingerprint, request);
+            mine.outcome().complete(outcome.response());
+            return toResponse(outcome.response(), outcome.replayed());
+        } catch (RuntimeException e) {
+            mine.outcome().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(storeKey, mine);
+        }
+    }
+
+    /**
+     * Helper method: Replay a stored response, or run the request and store its response
+     * Only one thread per instance gets here for a key
+     * 
+     * @param key Idempotency-Key as sent by the client (for error messages)
+     * @param storeKey Key scoped to the tenant, used in the store
+     */
+    private Outcome runOnce(String key, String storeKey, String fingerprint,
+                            Supplier<ResponseEntity<ProjectDTO>> request) {
+        StoredResponse stored = store.find(storeKey);
+        if (stored == null && !store.claim(storeKey, fingerprint)) {
+            // Claimed by another instance in the meantime
+            stored = store.find(storeKey);
+            if (stored == null) {
+                throw new RequestInProgressException(key);
+            }
+        }
+        if (stored != null) {
+            checkFingerprint(key, fingerprint, stored);
+            if (stored.isPending()) {
+                throw new RequestInProgressException(key);
+            }
+            replayed.increment();
+            return new Outcome(stored, true);
+        }
+
+        ResponseEntity<ProjectDTO> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            store.release(storeKey);
+            throw e;
+        }
+        executed.increment();
+
+        StoredResponse completed = new StoredResponse(fingerprint, response.getStatusCode().value(),
+                response.getHeaders().getETag(), toJson(response.getBody()));
+        if (response.getStatusCode().is2xxSuccessful()) {
+            store.complete(storeKey, completed);
+        } else {
+            store.release(storeKey);
+        }
+        return new Outcome(completed, false);
+    }
+
+    /**
+     * Helper method: Wait for the outcome of the same key running on this instance
+     */
+    private StoredResponse awaitOutcome(String key, String fingerprint, InFlight running) {
+        if (!running.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        try {
+            return running.outcome().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Same outcome as the first request (e.g. 404, 412)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RequestInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestInProgressException(key);
+        }
+    }
+
+    private void checkFingerprint(String key, String fingerprint, StoredResponse stored) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+    }
+
+    private ResponseEntity<ProjectDTO> toResponse(StoredResponse response, boolean replayed) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.status());
+        if (response.eTag() != null) {
+            builder.eTag(response.eTag());
+        }
+        if (replayed) {
+            builder.header(REPLAYED_HEADER, "true");
+        }
+        return builder.body(fromJson(response.body()));
+    }
+
+    /**
+     * Helper method: SHA-256 over everything that makes two requests "the same"
+     */
+    private String fingerprint(String method, String path, String ifMatch, ProjectDTO body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + ' ' + path + '\n' + ifMatch + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(body));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+
+    private String toJson(ProjectDTO body) {
+        try {
+            return body == null ? null : objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot store response", e);
+        }
+    }
+
+    private ProjectDTO fromJson(String json) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, ProjectDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read stored response", e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("portfolio.idempotency.requests")
+                .description("Requests with an Idempotency-Key, by how they were answered")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Response of a keyed request, and whether it comes from an earlier run
+     */
+    private record Outcome(StoredResponse response, boolean replayed) {
+    }
+
+    /**
+     * A keyed request running on this instance and its future response
+     */
+    private record InFlight(String fingerprint, CompletableFuture<StoredResponse> outcome) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.portfolio.idempotency;
+
+/**
+ * Idempotency Store
+ *
+ * Remembers the first response per Idempotency-Key for a limited time.
+ *
+ * This interface demonstrates:
+ * - Design Pattern: Strategy (in-memory or table-backed, see portfolio.idempotency.store)
+ *
+ * A key is first claimed (stored as pending), then completed with the response,
+ * or released if the request failed so that it can be retried.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return The stored (or pending) response for the key, or null if unknown or expired
+     */
+    StoredResponse find(String key);
+
+    /**
+     * Claim a key for a request that is about to run
+     *
+     * @return true if the key was free; false if another request holds or completed it
+     */
+    boolean claim(String key, String fingerprint);
+
+    /**
+     * Store the response of a claimed key
+     */
+    void complete(String key, StoredResponse response);
+
+    /**
+     * Forget a claimed key whose request failed
+     */
+    void release(String key);
+}
@@ -0,0 +1,50 @@
+package com.portfolio.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory Idempotency Store (default)
+ *
+ * Bounded Caffeine cache with TTL expiry. Only suitable for a single instance:
+ * keys are not shared between nodes and are lost on restart.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, StoredResponse> responses;
+
+    public InMemoryIdempotencyStore(@Value("${portfolio.idempotency.max-keys:100000}") long maxKeys,
+                                    @Value("${portfolio.idempotency.ttl:24h}") Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public StoredResponse find(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    @Override
+    public boolean claim(String key, String fingerprint) {
+        return responses.asMap().putIfAbsent(key, StoredResponse.pending(fingerprint)) == null;
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public void release(String key) {
+        responses.invalidate(key);
+    }
+}
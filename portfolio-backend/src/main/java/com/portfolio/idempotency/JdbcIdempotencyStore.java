@@ -0,0 +1,73 @@
+package com.portfolio.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Table-backed Idempotency Store (portfolio.idempotency.store=jdbc)
+ *
+ * Keys live in the idempotency_keys table (see db/migration), so every node
+ * sharing the database sees them. The primary key makes claim() atomic across
+ * nodes: the INSERT of a second claim fails. Expired rows are ignored by reads
+ * and deleted when new keys are claimed.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                @Value("${portfolio.idempotency.ttl:24h}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public StoredResponse find(String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(
+                "SELECT fingerprint, status, etag, body FROM idempotency_keys"
+                        + " WHERE idempotency_key = ? AND created_at > ?",
+                (rs, rowNum) -> new StoredResponse(
+                        rs.getString("fingerprint"), rs.getInt("status"), rs.getString("etag"), rs.getString("body")),
+                key, expiredBefore());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Override
+    public boolean claim(String key, String fingerprint) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at <= ?", expiredBefore());
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO idempotency_keys (idempotency_key, fingerprint, status, created_at) VALUES (?, ?, ?, ?)",
+                    key, fingerprint, StoredResponse.PENDING, Timestamp.from(Instant.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET status = ?, etag = ?, body = ? WHERE idempotency_key = ?",
+                response.status(), response.eTag(), response.body(), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ?", key);
+    }
+
+    private Timestamp expiredBefore() {
+        return Timestamp.from(Instant.now().minus(ttl));
+    }
+}
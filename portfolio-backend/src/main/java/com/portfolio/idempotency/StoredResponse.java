@@ -0,0 +1,22 @@
+package com.portfolio.idempotency;
+
+/**
+ * Response stored for one Idempotency-Key
+ *
+ * @param fingerprint Hash of the request the key was first used with
+ * @param status HTTP status, or PENDING while the first request is still running
+ * @param eTag ETag header of the response (may be null)
+ * @param body Response body as JSON (may be null)
+ */
+public record StoredResponse(String fingerprint, int status, String eTag, String body) {
+
+    public static final int PENDING = 0;
+
+    public static StoredResponse pending(String fingerprint) {
+        return new StoredResponse(fingerprint, PENDING, null, null);
+    }
+
+    public boolean isPending() {
+        return status == PENDING;
+    }
+}
@@ -0,0 +1,323 @@
+package com.portfolio.links;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Link Checker
+ *
+ * Probes http(s) URLs and caches the results.
+ *
+ * This class demonstrates:
+ * - Concurrency: every probe runs on its own virtual thread (Java 21+ runtime;
+ *   a bounded platform thread pool of max-concurrency threads otherwise)
+ * - Bulkhead: at most max-per-host probes per host at once, so checking many
+ *   projects on github.com never bursts against one server
+ * - Caching with negative caching: OK results are kept for ttl, failures for the
+ *   shorter negative-ttl; concurrent checks of the same URL share one probe
+ *
+ * A probe sends HEAD (GET when the server does not allow HEAD) and follows up
+ * to max-redirects redirects itself, so every hop is validated. Only http and
+ * https URLs are probed, and hosts that resolve to loopback, private, link-local,
+ * carrier-grade NAT (100.64.0.0/10) or other reserved addresses, including the
+ * same addresses embedded in IPv6 (::ffff:a.b.c.d), are rejected as INVALID
+ * unless allow-private-addresses is set (e.g. to test against a local stub server).
+ * Each hop resolves its host once and LinkProbe connects to exactly the checked
+ * address, so a host whose DNS answer changes after the check (DNS rebinding)
+ * cannot redirect the probe to an internal address.
+ *
+ * Metrics: portfolio.links.probes{status}, portfolio.links.in-flight and the
+ * cache.* metrics of the "links" cache.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.links.enabled", havingValue = "true", matchIfMissing = true)
+public class LinkChecker {
+
+    private static final String USER_AGENT = "portfolio-link-checker";
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService deadlines;
+    private final AsyncCache<String, LinkStatus> results;
+    private final Cache<String, Semaphore> hostPermits;
+    private final Map<LinkStatus, Counter> probes = new EnumMap<>(LinkStatus.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final int maxPerHost;
+    private final int maxRedirects;
+    private final boolean allowPrivateAddresses;
+
+    @Autowired
+    public LinkChecker(MeterRegistry meterRegistry,
+                       @Value("${portfolio.links.connect-timeout:3s}") Duration connectTimeout,
+                       @Value("${portfolio.links.request-timeout:5s}") Duration requestTimeout,
+                       @Value("${portfolio.links.max-per-host:4}") int maxPerHost,
+                       @Value("${portfolio.links.max-concurrency:32}") int maxConcurrency,
+                       @Value("${portfolio.links.max-redirects:5}") int maxRedirects,
+                       @Value("${portfolio.links.ttl:1h}") Duration ttl,
+                       @Value("${portfolio.links.negative-ttl:5m}") Duration negativeTtl,
+                       @Value("${portfolio.links.cache-size:10000}") long cacheSize,
+                       @Value("${portfolio.links.allow-private-addresses:false}") boolean allowPrivateAddresses) {
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.maxPerHost = maxPerHost;
+        this.maxRedirects = maxRedirects;
+        this.allowPrivateAddresses = allowPrivateAddresses;
+        this.executor = newExecutor(maxConcurrency);
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "link-checker-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.results = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new ResultExpiry(ttl, negativeTtl))
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+        // A permit is held for one request at most, far shorter than the expiry
+        this.hostPermits = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, results.synchronous(), "links");
+        for (LinkStatus status : LinkStatus.values()) {
+            probes.put(status, Counter.builder("portfolio.links.probes")
+                    .description("URL probes by result")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("portfolio.links.in-flight", inFlight, AtomicInteger::get)
+                .description("URL probes running right now")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Status of one URL, from the cache or a new probe
+     *
+     * @param url URL to check; null or blank completes with UNKNOWN
+     */
+    public CompletableFuture<LinkStatus> check(String url) {
+        if (url == null || url.isBlank()) {
+            return CompletableFuture.completedFuture(LinkStatus.UNKNOWN);
+        }
+        return results.get(url.trim(), (key, cacheExecutor) ->
+                CompletableFuture.supplyAsync(() -> probe(key), cacheExecutor));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        deadlines.shutdownNow();
+    }
+
+    /**
+     * Helper method: Probe one URL, following redirects
+     * Runs on the probe executor and blocks while waiting for the server
+     */
+    private LinkStatus probe(String url) {
+        inFlight.incrementAndGet();
+        LinkStatus status;
+        try {
+            status = follow(URI.create(url));
+        } catch (IllegalArgumentException e) {
+            status = LinkStatus.INVALID;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = LinkStatus.UNKNOWN;
+        } catch (IOException e) {
+            // UnknownHostException, ConnectException, SocketTimeoutException, SSLException
+            status = LinkStatus.UNREACHABLE;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        probes.get(status).increment();
+        return status;
+    }
+
+    private LinkStatus follow(URI uri) throws IOException, InterruptedException {
+        for (int hop = 0; hop <= maxRedirects; hop++) {
+            InetAddress address = checkedAddress(uri);
+            if (address == null) {
+                return LinkStatus.INVALID;
+            }
+            Semaphore permits = hostPermits.get(uri.getHost().toLowerCase(Locale.ROOT),
+                    host -> new Semaphore(maxPerHost));
+            if (!permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                // Host busy for too long: no verdict, try again next round
+                return LinkStatus.UNKNOWN;
+            }
+            LinkProbe.Response response;
+            try {
+                response = send(uri, address, "HEAD");
+                if (response.statusCode() == 405 || response.statusCode() == 501) {
+                    response = send(uri, address, "GET");
+                }
+            } finally {
+                permits.release();
+            }
+
+            int code = response.statusCode();
+            if (code >= 300 && code < 400) {
+                String location = response.location();
+                if (location == null) {
+                    return LinkStatus.BROKEN;
+                }
+                uri = uri.resolve(location);
+                continue;
+            }
+            return code >= 200 && code < 300 ? LinkStatus.OK : LinkStatus.BROKEN;
+        }
+        // Redirect loop or chain too long
+        return LinkStatus.BROKEN;
+    }
+
+    private LinkProbe.Response send(URI uri, InetAddress address, String method) throws IOException {
+        return LinkProbe.send(uri, address, method, USER_AGENT, connectTimeout, requestTimeout, deadlines);
+    }
+
+    /**
+     * Helper method: The address to connect to for uri
+     * Null unless uri is http(s) with a host whose addresses are all public (or
+     * private addresses are allowed). The probe connects to the returned address
+     * instead of resolving the host again.
+     */
+    private InetAddress checkedAddress(URI uri) throws UnknownHostException {
+        String scheme = uri.getScheme();
+        if (scheme == null || uri.getHost() == null
+                || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
+            return null;
+        }
+        InetAddress[] addresses = InetAddress.getAllByName(uri.getHost());
+        if (!allowPrivateAddresses) {
+            for (InetAddress address : addresses) {
+                if (isPrivate(address)) {
+                    return null;
+                }
+            }
+        }
+        return addresses[0];
+    }
+
+    /**
+     * Helper method: Addresses a probe must not reach
+     * IPv4 addresses embedded in IPv6 (::ffff:a.b.c.d, ::a.b.c.d) are checked as IPv4
+     */
+    static boolean isPrivate(InetAddress address) throws UnknownHostException {
+        if (address instanceof Inet6Address) {
+            byte[] bytes = address.getAddress();
+            if (embedsIpv4(bytes)) {
+                address = InetAddress.getByAddress(Arrays.copyOfRange(bytes, 12, 16));
+            } else if ((bytes[0] & 0xfe) == 0xfc) {
+                // Unique local fc00::/7
+                return true;
+            }
+        }
+        if (address.isLoopbackAddress() || address.isAnyLocalAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        if (address instanceof Inet4Address) {
+            byte[] bytes = address.getAddress();
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            return first == 0                                   // "this network" 0.0.0.0/8
+                    || (first == 100 && (second & 0xc0) == 64)  // carrier-grade NAT 100.64.0.0/10
+                    || (first == 198 && (second & 0xfe) == 18)  // benchmarking 198.18.0.0/15
+                    || first >= 240;                            // reserved and broadcast
+        }
+        return false;
+    }
+
+    private static boolean embedsIpv4(byte[] ipv6) {
+        for (int i = 0; i < 10; i++) {
+            if (ipv6[i] != 0) {
+                return false;
+            }
+        }
+        boolean mapped = ipv6[10] == (byte) 0xff && ipv6[11] == (byte) 0xff;
+        boolean compatible = ipv6[10] == 0 && ipv6[11] == 0;
+        return mapped || compatible;
+    }
+
+    /**
+     * Helper method: One virtual thread per probe when the runtime supports it
+     * The build targets Java 17, so the Java 21 factory is looked up reflectively
+     */
+    private static ExecutorService newExecutor(int maxConcurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                Thread thread = new Thread(runnable, "link-checker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * OK results live for ttl, failures for negativeTtl, UNKNOWN is not cached
+     */
+    private static class ResultExpiry implements Expiry<String, LinkStatus> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        ResultExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String url, LinkStatus status, long currentTime) {
+            return switch (status) {
+                case OK -> ttlNanos;
+                case UNKNOWN -> 0;
+                default -> negativeTtlNanos;
+            };
+        }
+
+        @Override
+        public long expireAfterUpdate(String url, LinkStatus status, long currentTime, long currentDuration) {
+            return expireAfterCreate(url, status, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String url, LinkStatus status, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
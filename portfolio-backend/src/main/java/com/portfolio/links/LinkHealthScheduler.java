@@ -0,0 +1,207 @@
+package com.portfolio.links;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.ProjectPage;
+import com.portfolio.dto.TenantProjectRef;
+import com.portfolio.event.ProjectChangedEvent;
+import com.portfolio.exception.ResourceNotFoundException;
+import com.portfolio.service.ProjectService;
+import com.portfolio.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Link Health Scheduler
+ *
+ * Keeps githubStatus and liveDemoStatus of all projects up to date.
+ *
+ * This class demonstrates:
+ * - Incremental scheduling: every interval one batch of batch-size projects is
+ *   checked, walking the catalog with a keyset cursor that wraps around at the
+ *   end, so a large catalog never turns into one burst of requests
+ * - Design Pattern: Observer (new and edited URLs are queued by a
+ *   ProjectChangedEvent listener and go first in the next batch)
+ *
+ * The URLs of a batch are probed concurrently by the LinkChecker; the results
+ * are then written one project at a time through ProjectService.updateLinkStatus,
+ * which only touches rows whose status changed. A probe without a verdict
+ * (UNKNOWN, e.g. the host stayed busy) keeps the stored status.
+ *
+ * The sweep covers the projects of all tenants in one id order; every project
+ * is read and updated for its own tenant (TenantContext.runAs).
+ *
+ * Metrics: portfolio.links.queue (projects waiting for a first check) and
+ * portfolio.links.updates (projects whose status changed).
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.links.enabled", havingValue = "true", matchIfMissing = true)
+public class LinkHealthScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LinkHealthScheduler.class);
+
+    private final ProjectService projectService;
+    private final LinkChecker linkChecker;
+    private final ScheduledExecutorService executor;
+    private final BlockingQueue<TenantProjectRef> pending;
+    private final Counter updates;
+
+    private final Duration interval;
+    private final int batchSize;
+
+    // Last project id of the previous sweep batch; only used on the scheduler thread
+    private long cursor;
+
+    @Autowired
+    public LinkHealthScheduler(ProjectService projectService, LinkChecker linkChecker, MeterRegistry meterRegistry,
+                               @Value("${portfolio.links.interval:30s}") Duration interval,
+                               @Value("${portfolio.links.batch-size:20}") int batchSize,
+                               @Value("${portfolio.links.queue-size:10000}") int queueSize) {
+        this.projectService = projectService;
+        this.linkChecker = linkChecker;
+        this.interval = interval;
+        this.batchSize = Math.max(1, Math.min(batchSize, ProjectService.MAX_PAGE_SIZE));
+        this.pending = new LinkedBlockingQueue<>(queueSize);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "link-health-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("portfolio.links.queue", pending, BlockingQueue::size)
+                .description("Projects with new or changed URLs waiting for a check")
+                .register(meterRegistry);
+        this.updates = Counter.builder("portfolio.links.updates")
+                .description("Projects whose link status changed")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::checkNextBatch,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue projects with a URL that has not been checked yet
+     * Status updates themselves carry a checked status and are not queued again
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDTO project = event.getProject();
+        if (project != null && (needsCheck(project.getGithubUrl(), project.getGithubStatus())
+                || needsCheck(project.getLiveDemoUrl(), project.getLiveDemoStatus()))) {
+            // When full, the sweep gets to the project later
+            pending.offer(new TenantProjectRef(event.getProjectId(), event.getTenantId()));
+        }
+    }
+
+    /**
+     * Check one batch: queued projects first, the rest from the sweep cursor
+     */
+    void checkNextBatch() {
+        try {
+            Map<Long, TenantProjectRef> refs = new LinkedHashMap<>();
+            TenantProjectRef ref;
+            while (refs.size() < batchSize && (ref = pending.poll()) != null) {
+                refs.put(ref.getId(), ref);
+            }
+            if (refs.size() < batchSize) {
+                ProjectPage<TenantProjectRef> page =
+                        projectService.getAllTenantsRefsPage(cursor, batchSize - refs.size());
+                page.getItems().forEach(item -> refs.putIfAbsent(item.getId(), item));
+                // Past the last project: start over with the next batch
+                cursor = page.getNextCursor() != null ? page.getNextCursor() : 0;
+            }
+
+            List<TenantProject> batch = new ArrayList<>(refs.size());
+            for (TenantProjectRef item : refs.values()) {
+                try {
+                    batch.add(new TenantProject(item.getTenantId(), TenantContext.callAs(item.getTenantId(),
+                            () -> projectService.getProjectById(item.getId()))));
+                } catch (ResourceNotFoundException e) {
+                    // Deleted in the meantime
+                }
+            }
+            check(batch);
+        } catch (RuntimeException e) {
+            // Keep the schedule alive, e.g. while the database is unavailable
+            log.warn("Link check batch failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * Helper method: Probe all URLs of the batch at once, then store the changes
+     */
+    private void check(List<TenantProject> projects) {
+        List<CompletableFuture<LinkStatus>> github = new ArrayList<>(projects.size());
+        List<CompletableFuture<LinkStatus>> liveDemo = new ArrayList<>(projects.size());
+        for (TenantProject item : projects) {
+            github.add(linkChecker.check(item.project().getGithubUrl()));
+            liveDemo.add(linkChecker.check(item.project().getLiveDemoUrl()));
+        }
+
+        for (int i = 0; i < projects.size(); i++) {
+            String tenantId = projects.get(i).tenantId();
+            ProjectDTO project = projects.get(i).project();
+            LinkStatus githubStatus = verdict(project.getGithubUrl(), project.getGithubStatus(), github.get(i).join());
+            LinkStatus liveDemoStatus = verdict(project.getLiveDemoUrl(), project.getLiveDemoStatus(),
+                    liveDemo.get(i).join());
+            if (githubStatus == project.getGithubStatus() && liveDemoStatus == project.getLiveDemoStatus()) {
+                continue;
+            }
+            try {
+                TenantContext.runAs(tenantId, () -> projectService.updateLinkStatus(project.getId(),
+                        project.getGithubUrl(), githubStatus, project.getLiveDemoUrl(), liveDemoStatus));
+                updates.increment();
+            } catch (ResourceNotFoundException e) {
+                // Deleted in the meantime
+            }
+        }
+    }
+
+    /**
+     * Helper method: Status to store; a probe without a verdict keeps the stored one
+     */
+    private static LinkStatus verdict(String url, LinkStatus stored, LinkStatus checked) {
+        boolean hasUrl = url != null && !url.isBlank();
+        return hasUrl && checked == LinkStatus.UNKNOWN ? stored : checked;
+    }
+
+    private static boolean needsCheck(String url, LinkStatus status) {
+        return url != null && !url.isBlank() && (status == null || status == LinkStatus.UNKNOWN);
+    }
+
+    /**
+     * A project to check and the tenant it belongs to
+     */
+    private record TenantProject(String tenantId, ProjectDTO project) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.portfolio.links;
+
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Link Probe
+ *
+ * Sends one HEAD or GET request (HTTP/1.1) to an address that was resolved and
+ * checked beforehand, and reads only the status line and headers.
+ *
+ * This class demonstrates:
+ * - Security: DNS pinning. A client that resolves the host again itself (like
+ *   java.net.http.HttpClient) can be sent to another address than the one that
+ *   was checked (DNS rebinding); here the socket connects to exactly that address
+ * - TLS still verifies the certificate against the host name (SNI and HTTPS
+ *   endpoint identification), so pinning does not weaken https
+ *
+ * The body is never read: the connection is closed after the headers.
+ *
+ * Every request has one deadline for the TLS handshake, sending the request and
+ * reading the headers together. The socket read timeout only bounds each single
+ * read, so a server trickling one byte at a time could otherwise hold a probe
+ * for thousands of reads; at the deadline a scheduled task closes the socket.
+ */
+final class LinkProbe {
+
+    private static final int MAX_LINE = 8192;
+    private static final int MAX_HEADERS = 100;
+
+    private LinkProbe() {
+    }
+
+    /**
+     * Status code and Location header of one response
+     */
+    record Response(int statusCode, String location) {
+    }
+
+    /**
+     * Send a request for uri to the given address
+     *
+     * @param address Checked address of uri's host
+     * @param timeout Time from connect to the end of the response headers
+     * @param deadlines Scheduler that closes the socket when timeout has passed
+     */
+    static Response send(URI uri, InetAddress address, String method, String userAgent,
+                         Duration connectTimeout, Duration timeout, ScheduledExecutorService deadlines)
+            throws IOException {
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (https ? 443 : 80);
+        String host = uri.getHost();
+
+        try (Socket plain = new Socket()) {
+            plain.connect(new InetSocketAddress(address, port), (int) connectTimeout.toMillis());
+            plain.setSoTimeout((int) timeout.toMillis());
+            AtomicBoolean expired = new AtomicBoolean();
+            ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+                expired.set(true);
+                closeQuietly(plain);
+            }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                Socket socket = https ? startTls(plain, host, port) : plain;
+                try {
+                    writeRequest(socket.getOutputStream(), uri, method, userAgent);
+                    return readResponse(new BufferedInputStream(socket.getInputStream()));
+                } finally {
+                    socket.close();
+                }
+            } catch (IOException e) {
+                if (expired.get()) {
+                    throw new SocketTimeoutException("No response headers within " + timeout.toMillis() + " ms");
+                }
+                throw e;
+            } finally {
+                deadline.cancel(false);
+            }
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Closing only to interrupt the probe
+        }
+    }
+
+    private static Socket startTls(Socket plain, String host, int port) throws IOException {
+        SSLSocket socket = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                .createSocket(plain, host, port, true);
+        SSLParameters parameters = socket.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        if (!host.startsWith("[") && !Character.isDigit(host.charAt(host.length() - 1))) {
+            parameters.setServerNames(List.of(new SNIHostName(host)));
+        }
+        socket.setSSLParameters(parameters);
+        socket.startHandshake();
+        return socket;
+    }
+
+    private static void writeRequest(OutputStream out, URI uri, String method, String userAgent)
+            throws IOException {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path += "?" + uri.getRawQuery();
+        }
+        String hostHeader = uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+        String request = method + " " + path + " HTTP/1.1\r\n"
+                + "Host: " + hostHeader + "\r\n"
+                + "User-Agent: " + userAgent + "\r\n"
+                + "Accept: */*\r\n"
+                + "Connection: close\r\n"
+                + "\r\n";
+        out.write(request.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * Helper method: Status and Location of the final response, skipping interim 1xx responses
+     */
+    private static Response readResponse(InputStream in) throws IOException {
+        while (true) {
+            String statusLine = readLine(in);
+            String[] parts = statusLine.split(" ", 3);
+            if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+                throw new IOException("Not an HTTP response");
+            }
+            int statusCode;
+            try {
+                statusCode = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed status line");
+            }
+
+            String location = null;
+            for (int headers = 0; ; headers++) {
+                String line = readLine(in);
+                if (line.isEmpty()) {
+                    break;
+                }
+                if (headers == MAX_HEADERS) {
+                    throw new IOException("Too many response headers");
+                }
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().toLowerCase(Locale.ROOT).equals("location")) {
+                    location = line.substring(colon + 1).trim();
+                }
+            }
+            if (statusCode >= 200 || statusCode < 100) {
+                return new Response(statusCode, location);
+            }
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                int end = line.length();
+                return end > 0 && line.charAt(end - 1) == '\r' ? line.substring(0, end - 1) : line.toString();
+            }
+            if (line.length() == MAX_LINE) {
+                throw new IOException("Response header line too long");
+            }
+            line.append((char) c);
+        }
+        throw new EOFException("Connection closed before the end of the response headers");
+    }
+}
@@ -0,0 +1,24 @@
+package com.portfolio.links;
+
+/**
+ * Link Status
+ *
+ * Result of the last check of a project URL (githubUrl, liveDemoUrl).
+ */
+public enum LinkStatus {
+
+    /** Not checked yet (new project, changed URL) or no URL */
+    UNKNOWN,
+
+    /** Answered with 2xx, possibly after redirects */
+    OK,
+
+    /** Answered with 4xx or 5xx */
+    BROKEN,
+
+    /** No answer: DNS failure, connection refused, timeout or TLS error */
+    UNREACHABLE,
+
+    /** Not checkable: malformed, not http(s), or pointing to a private address */
+    INVALID
+}
@@ -0,0 +1,181 @@
+package com.portfolio.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.links.LinkStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Project Protobuf Codec
+ *
+ * Encodes ProjectDTO as the Project / ProjectList messages of src/main/proto/project.proto.
+ *
+ * This class demonstrates:
+ * - Protocol Buffers wire format (tagged, length-delimited fields)
+ * - Schema evolution: unknown fields are skipped when decoding
+ *
+ * The codec writes the wire format directly with CodedOutputStream instead of
+ * going through generated message classes, so ProjectDTO stays the only model
+ * and no protoc step is needed in the build.
+ */
+public final class ProjectProtobufCodec {
+
+    // Field numbers of message Project
+    private static final int ID = 1;
+    private static final int TITLE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int TECH_STACK = 4;
+    private static final int GITHUB_URL = 5;
+    private static final int LIVE_DEMO_URL = 6;
+    private static final int VERSION = 7;
+    private static final int GITHUB_STATUS = 8;
+    private static final int LIVE_DEMO_STATUS = 9;
+
+    private static final LinkStatus[] LINK_STATUSES = LinkStatus.values();
+
+    // Field numbers of message ProjectList
+    private static final int PROJECTS = 1;
+
+    private ProjectProtobufCodec() {
+    }
+
+    /**
+     * Write one Project message
+     */
+    public static void writeProject(ProjectDTO project, OutputStream out) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        writeFields(project, output);
+        output.flush();
+    }
+
+    /**
+     * Write one ProjectList message
+     */
+    public static void writeProjectList(List<ProjectDTO> projects, OutputStream out) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        for (ProjectDTO project : projects) {
+            output.writeTag(PROJECTS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(size(project));
+            writeFields(project, output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Read one Project message
+     */
+    public static ProjectDTO readProject(InputStream in) throws IOException {
+        return readFields(CodedInputStream.newInstance(in));
+    }
+
+    /**
+     * Read one ProjectList message
+     */
+    public static List<ProjectDTO> readProjectList(InputStream in) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(in);
+        List<ProjectDTO> projects = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == PROJECTS) {
+                int limit = input.pushLimit(input.readRawVarint32());
+                projects.add(readFields(input));
+                input.popLimit(limit);
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return projects;
+    }
+
+    private static void writeFields(ProjectDTO project, CodedOutputStream output) throws IOException {
+        if (project.getId() != null) {
+            output.writeInt64(ID, project.getId());
+        }
+        writeString(output, TITLE, project.getTitle());
+        writeString(output, DESCRIPTION, project.getDescription());
+        writeString(output, TECH_STACK, project.getTechStack());
+        writeString(output, GITHUB_URL, project.getGithubUrl());
+        writeString(output, LIVE_DEMO_URL, project.getLiveDemoUrl());
+        if (project.getVersion() != null) {
+            output.writeInt64(VERSION, project.getVersion());
+        }
+        writeStatus(output, GITHUB_STATUS, project.getGithubStatus());
+        writeStatus(output, LIVE_DEMO_STATUS, project.getLiveDemoStatus());
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+
+    private static void writeStatus(CodedOutputStream output, int field, LinkStatus status) throws IOException {
+        if (status != null) {
+            output.writeEnum(field, status.ordinal());
+        }
+    }
+
+    /**
+     * Helper method: Encoded size of one Project message (the length prefix inside ProjectList)
+     */
+    private static int size(ProjectDTO project) {
+        int size = 0;
+        if (project.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(ID, project.getId());
+        }
+        size += stringSize(TITLE, project.getTitle());
+        size += stringSize(DESCRIPTION, project.getDescription());
+        size += stringSize(TECH_STACK, project.getTechStack());
+        size += stringSize(GITHUB_URL, project.getGithubUrl());
+        size += stringSize(LIVE_DEMO_URL, project.getLiveDemoUrl());
+        if (project.getVersion() != null) {
+            size += CodedOutputStream.computeInt64Size(VERSION, project.getVersion());
+        }
+        size += statusSize(GITHUB_STATUS, project.getGithubStatus());
+        size += statusSize(LIVE_DEMO_STATUS, project.getLiveDemoStatus());
+        return size;
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static int statusSize(int field, LinkStatus status) {
+        return status != null ? CodedOutputStream.computeEnumSize(field, status.ordinal()) : 0;
+    }
+
+    /**
+     * Helper method: Unknown enum numbers (from a newer schema) read as UNKNOWN
+     */
+    private static LinkStatus readStatus(CodedInputStream input) throws IOException {
+        int number = input.readEnum();
+        return number >= 0 && number < LINK_STATUSES.length ? LINK_STATUSES[number] : LinkStatus.UNKNOWN;
+    }
+
+    private static ProjectDTO readFields(CodedInputStream input) throws IOException {
+        ProjectDTO project = new ProjectDTO();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> project.setId(input.readInt64());
+                case TITLE -> project.setTitle(input.readStringRequireUtf8());
+                case DESCRIPTION -> project.setDescription(input.readStringRequireUtf8());
+                case TECH_STACK -> project.setTechStack(input.readStringRequireUtf8());
+                case GITHUB_URL -> project.setGithubUrl(input.readStringRequireUtf8());
+                case LIVE_DEMO_URL -> project.setLiveDemoUrl(input.readStringRequireUtf8());
+                case VERSION -> project.setVersion(input.readInt64());
+                case GITHUB_STATUS -> project.setGithubStatus(readStatus(input));
+                case LIVE_DEMO_STATUS -> project.setLiveDemoStatus(readStatus(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return project;
+    }
+}
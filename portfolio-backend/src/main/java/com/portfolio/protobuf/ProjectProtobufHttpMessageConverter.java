@@ -0,0 +1,92 @@
+package com.portfolio.protobuf;
+
+import com.portfolio.dto.ProjectDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * HTTP message converter for application/x-protobuf
+ *
+ * Reads and writes ProjectDTO and lists of ProjectDTO with ProjectProtobufCodec.
+ * Other response types (search results, facets) have no Protobuf schema and are
+ * answered with 406 NOT ACCEPTABLE when only Protobuf is accepted. Errors are
+ * always written as JSON (see GlobalExceptionHandler).
+ */
+public class ProjectProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ProjectProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProjectDTO.class == clazz || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return (type == ProjectDTO.class || isProjectCollection(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        boolean supported = type instanceof ParameterizedType
+                ? isProjectCollection(type)
+                : supports(clazz);
+        return supported && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return type == ProjectDTO.class
+                ? ProjectProtobufCodec.readProject(inputMessage.getBody())
+                : ProjectProtobufCodec.readProjectList(inputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (body instanceof ProjectDTO project) {
+            ProjectProtobufCodec.writeProject(project, outputMessage.getBody());
+            return;
+        }
+
+        // Element type is not known for raw collections (e.g. ResponseEntity<?>), check each item
+        List<ProjectDTO> projects = new ArrayList<>();
+        for (Object item : (Collection<?>) body) {
+            if (!(item instanceof ProjectDTO project)) {
+                throw new HttpMessageNotWritableException(
+                        "No Protobuf schema for " + (item != null ? item.getClass().getSimpleName() : "null"));
+            }
+            projects.add(project);
+        }
+        ProjectProtobufCodec.writeProjectList(projects, outputMessage.getBody());
+    }
+
+    private static boolean isProjectCollection(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] == ProjectDTO.class;
+    }
+}
@@ -0,0 +1,137 @@
+package com.portfolio.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive Concurrency Limiter
+ *
+ * Bounds the number of requests in flight and adjusts the bound from observed latency.
+ *
+ * This class demonstrates:
+ * - Algorithm: AIMD (additive increase, multiplicative decrease), as in TCP congestion control
+ * - Concurrency: Lock-free admission; limit updates once per sampling window
+ *
+ * The baseline is a slow moving average of the per-window average latency,
+ * updated only while the service is healthy. At the end of every window the
+ * window's average latency is compared with baseline * tolerance:
+ * - above: requests are queueing somewhere (threads, connection pool), so the
+ *   limit is cut in proportion to the overshoot
+ * - below, with the limit actually in use: the limit grows by about sqrt(limit)
+ *
+ * Requests over the limit are rejected immediately, which keeps latency for the
+ * admitted ones close to the baseline instead of letting it collapse under load.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // Weight of one healthy window in the baseline average
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Current window
+    private final AtomicLong windowStart;
+    private final LongAdder windowLatencySum = new LongAdder();
+    private final LongAdder windowCount = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+    // Healthy latency; not raised by overloaded windows, so queueing cannot hide itself
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, long windowNanos, long nowNanos) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = windowNanos;
+        this.windowStart = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Admit a request if fewer than limit are in flight
+     * Every successful call must be followed by exactly one release
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finish an admitted request and record its latency
+     */
+    public void release(long latencyNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        windowLatencySum.add(latencyNanos);
+        windowCount.increment();
+
+        long start = windowStart.get();
+        if (nowNanos - start >= windowNanos && windowStart.compareAndSet(start, nowNanos)) {
+            endWindow();
+        }
+    }
+
+    /**
+     * Finish an admitted request without recording its latency
+     * For streamed responses, whose duration depends on the payload size and the
+     * client's speed rather than on load
+     */
+    public void releaseUnsampled() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Helper method: Adjust the limit from the finished window
+     * Only the thread that won the window CAS gets here
+     */
+    private synchronized void endWindow() {
+        long count = windowCount.sumThenReset();
+        long sum = windowLatencySum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(0);
+        if (count == 0) {
+            return;
+        }
+
+        double averageNanos = (double) sum / count;
+        if (baselineNanos == 0) {
+            baselineNanos = averageNanos;
+        }
+
+        double target = baselineNanos * tolerance;
+        int newLimit = limit;
+        if (averageNanos > target && limit > minLimit) {
+            newLimit = (int) (limit * Math.max(0.5, target / averageNanos));
+        } else {
+            // Healthy, or still slow at the minimum limit: then the latency does not
+            // come from concurrency (e.g. more data) and becomes the new normal
+            baselineNanos += (averageNanos - baselineNanos) * BASELINE_SMOOTHING;
+            if (maxInFlight >= limit * 0.8) {
+                newLimit = limit + Math.max(1, (int) Math.sqrt(limit));
+            }
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,67 @@
+package com.portfolio.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit Configuration
+ *
+ * Registers the RateLimitFilter for /api/* ahead of all other filters, so
+ * rejected requests cost as little as possible, and exports the adaptive
+ * concurrency limit and the requests in flight as gauges.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitSettings rateLimitSettings(
+            @Value("${portfolio.ratelimit.enabled:true}") boolean rateLimitEnabled,
+            @Value("${portfolio.ratelimit.read.rate:50}") double readRate,
+            @Value("${portfolio.ratelimit.read.burst:100}") int readBurst,
+            @Value("${portfolio.ratelimit.write.rate:5}") double writeRate,
+            @Value("${portfolio.ratelimit.write.burst:20}") int writeBurst,
+            @Value("${portfolio.ratelimit.max-clients:100000}") long maxClients,
+            @Value("${portfolio.loadshed.enabled:true}") boolean loadSheddingEnabled,
+            @Value("${portfolio.loadshed.retry-after:1s}") Duration shedRetryAfter) {
+        return new RateLimitSettings(rateLimitEnabled, readRate, readBurst, writeRate, writeBurst,
+                maxClients, loadSheddingEnabled, shedRetryAfter);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${portfolio.loadshed.initial-limit:100}") int initialLimit,
+            @Value("${portfolio.loadshed.min-limit:10}") int minLimit,
+            @Value("${portfolio.loadshed.max-limit:1000}") int maxLimit,
+            @Value("${portfolio.loadshed.latency-tolerance:2.0}") double tolerance,
+            @Value("${portfolio.loadshed.window:1s}") Duration window,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, tolerance, window.toNanos(), System.nanoTime());
+        Gauge.builder("portfolio.loadshed.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.loadshed.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("API requests in flight")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitSettings settings, AdaptiveConcurrencyLimiter limiter,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(settings, limiter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,185 @@
+package com.portfolio.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rate Limit Filter
+ *
+ * Protects /api/** from misbehaving clients and from overload.
+ *
+ * This class demonstrates:
+ * - Design Pattern: Intercepting Filter (runs before any controller)
+ * - Per-client token buckets with separate read and write budgets
+ * - Load shedding with an adaptive concurrency limit
+ *
+ * Checks, cheapest first:
+ * 1. The client's bucket for the request kind (GET/HEAD/OPTIONS read, everything
+ *    else write); empty bucket: 429 TOO MANY REQUESTS with Retry-After
+ * 2. The global concurrency limit; over it: 503 SERVICE UNAVAILABLE with Retry-After
+ *
+ * A request that continues asynchronously (streamed bodies) holds its
+ * concurrency permit until the response is complete, not just until the
+ * controller returns. The change feed (/changes) is exempt: its connections
+ * stay open for up to portfolio.changes.timeout and hold no thread while idle.
+ *
+ * Clients are identified by remote address. Behind a reverse proxy that is the
+ * address Tomcat's RemoteIpValve takes from X-Forwarded-For
+ * (server.forward-headers-strategy=native): the right-most entry not added by a
+ * trusted proxy, so a client cannot pick its key by sending the header itself.
+ * Buckets of idle clients expire, so the table stays bounded.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RateLimitSettings settings;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, ClientBuckets> clients;
+
+    private final Counter rejectedReads;
+    private final Counter rejectedWrites;
+    private final Counter shed;
+
+    public RateLimitFilter(RateLimitSettings settings, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(settings.maxClients())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        this.rejectedReads = rejectedCounter(meterRegistry, "rate", "read");
+        this.rejectedWrites = rejectedCounter(meterRegistry, "rate", "write");
+        this.shed = rejectedCounter(meterRegistry, "concurrency", "any");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long now = System.nanoTime();
+
+        if (settings.rateLimitEnabled()) {
+            boolean read = READ_METHODS.contains(request.getMethod());
+            ClientBuckets buckets = clients.get(request.getRemoteAddr(), key -> new ClientBuckets(
+                    new TokenBucket(settings.readRate(), settings.readBurst(), now),
+                    new TokenBucket(settings.writeRate(), settings.writeBurst(), now)));
+            long waitNanos = (read ? buckets.read() : buckets.write()).tryAcquire(now);
+            if (waitNanos > 0) {
+                (read ? rejectedReads : rejectedWrites).increment();
+                reject(request, response, HttpStatus.TOO_MANY_REQUESTS, waitNanos,
+                        "Too many " + (read ? "read" : "write") + " requests, retry later");
+                return;
+            }
+        }
+
+        // Long-lived streams do not count against the concurrency limit
+        if (!settings.loadSheddingEnabled() || request.getRequestURI().endsWith("/changes")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, settings.shedRetryAfter().toNanos(),
+                    "Server is overloaded, retry later");
+            return;
+        }
+        boolean releaseLater = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streamed bodies (/stream, /export) keep their permit until the response completes
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releaseLater = true;
+            }
+        } finally {
+            if (!releaseLater) {
+                long end = System.nanoTime();
+                concurrencyLimiter.release(end - now, end);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        long retryAfterNanos, String message) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        // Rejected before CORS processing; same policy as CorsConfig so browsers can read the error
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                LocalDateTime.now(), message, "uri=" + request.getRequestURI(), status.value()));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason, String kind) {
+        return Counter.builder("portfolio.ratelimit.rejected")
+                .description("Requests rejected by the rate limiter or load shedding")
+                .tag("reason", reason)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private record ClientBuckets(TokenBucket read, TokenBucket write) {
+    }
+
+    /**
+     * Gives the permit back once an async response is over
+     * The first of complete, timeout and error releases it: after a client abort
+     * only onError is guaranteed to be called
+     */
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Started again (another async cycle): keep listening
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.releaseUnsampled();
+            }
+        }
+    }
+}
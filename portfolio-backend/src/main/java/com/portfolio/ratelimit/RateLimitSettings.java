@@ -0,0 +1,25 @@
+package com.portfolio.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Rate limiting and load shedding settings (portfolio.ratelimit.* and
+ * portfolio.loadshed.* in application.properties)
+ *
+ * @param readRate Sustained reads per second and client
+ * @param readBurst Reads a client may send at once
+ * @param writeRate Sustained writes per second and client
+ * @param writeBurst Writes a client may send at once
+ * @param maxClients Clients tracked at most (least recently seen are dropped)
+ * @param shedRetryAfter Retry-After sent with 503 responses
+ */
+public record RateLimitSettings(
+        boolean rateLimitEnabled,
+        double readRate,
+        int readBurst,
+        double writeRate,
+        int writeBurst,
+        long maxClients,
+        boolean loadSheddingEnabled,
+        Duration shedRetryAfter) {
+}
@@ -0,0 +1,57 @@
+package com.portfolio.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token Bucket
+ *
+ * Lock-free token bucket in its GCRA form (generic cell rate algorithm).
+ *
+ * This class demonstrates:
+ * - Algorithm: GCRA, equivalent to a token bucket of the given rate and capacity
+ * - Concurrency: Lock-free state update with a single compare-and-set
+ *
+ * Instead of a token count and a refill timestamp the bucket keeps one value,
+ * the "theoretical arrival time" (TAT) at which it would be full again. A
+ * request is allowed if TAT is no further ahead of now than the burst allows,
+ * and then pushes TAT forward by one emission interval (1 / rate).
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * @param ratePerSecond Sustained rate (tokens added per second)
+     * @param capacity Burst size (tokens the bucket holds when full)
+     * @param nowNanos Current time, the bucket starts full
+     */
+    public TokenBucket(double ratePerSecond, int capacity, long nowNanos) {
+        if (ratePerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take one token
+     *
+     * @return 0 if the token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long start = Math.max(tat, nowNanos);
+            long waitNanos = start - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -1,9 +1,22 @@
 package com.portfolio.repository;
 
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.TenantProjectRef;
 import com.portfolio.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Project Repository Interface
  * 
@@ -32,4 +45,65 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     
     // We can add custom query methods here if needed
     // For example: List<Project> findByTitleContaining(String keyword);
+
+    // Read-only queries below select straight into ProjectDTO (constructor projection):
+    // no managed entities, no dirty-checking snapshots, no second copy in the service.
+    String DTO_SELECT = "SELECT new com.portfolio.dto.ProjectDTO("
+            + "p.id, p.title, p.description, p.techStack, p.githubUrl, p.liveDemoUrl, "
+            + "p.githubStatus, p.liveDemoStatus, p.version) "
+            + "FROM Project p ";
+
+    // Every query is scoped to one tenant; tenant_id leads the (tenant_id, id) index,
+    // so a tenant's reads cost the same however many projects the other tenants have.
+
+    /**
+     * All projects of a tenant as DTOs, in id order
+     */
+    @Query(DTO_SELECT + "WHERE p.tenantId = :tenantId ORDER BY p.id")
+    List<ProjectDTO> findAllProjected(@Param("tenantId") String tenantId);
+
+    /**
+     * One project of a tenant as a DTO
+     */
+    @Query(DTO_SELECT + "WHERE p.tenantId = :tenantId AND p.id = :id")
+    Optional<ProjectDTO> findProjectedById(@Param("id") Long id, @Param("tenantId") String tenantId);
+
+    /**
+     * Keyset pagination: projects of a tenant with an id greater than the cursor, in id order.
+     * Uses the (tenant_id, id) index instead of OFFSET, so every page costs the same.
+     */
+    @Query(DTO_SELECT + "WHERE p.tenantId = :tenantId AND p.id > :after ORDER BY p.id")
+    List<ProjectDTO> findProjectedAfter(@Param("tenantId") String tenantId, @Param("after") Long after,
+                                        Pageable pageable);
+
+    /**
+     * Forward-only cursor over all projects of a tenant in id order.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query(DTO_SELECT + "WHERE p.tenantId = :tenantId ORDER BY p.id")
+    Stream<ProjectDTO> streamAllProjected(@Param("tenantId") String tenantId);
+
+    /**
+     * One project entity of a tenant, for writes
+     */
+    Optional<Project> findByIdAndTenantId(Long id, String tenantId);
+
+    /**
+     * Project entities of a tenant by id, for batch writes
+     */
+    List<Project> findAllByTenantIdAndIdIn(String tenantId, Collection<Long> ids);
+
+    /**
+     * Keyset pagination over the projects of all tenants, in id order (background jobs only)
+     */
+    @Query("SELECT new com.portfolio.dto.TenantProjectRef(p.id, p.tenantId) FROM Project p "
+            + "WHERE p.id > :after ORDER BY p.id")
+    List<TenantProjectRef> findRefsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Tenants that own at least one project
+     */
+    @Query("SELECT DISTINCT p.tenantId FROM Project p ORDER BY p.tenantId")
+    List<String> findTenantIds(Pageable pageable);
 }
@@ -0,0 +1,25 @@
+package com.portfolio.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Read From Primary
+ *
+ * Marks a read-only method whose result outlives the request: loads that fill a
+ * cache or a snapshot stamped with the catalog version. Its read-only
+ * transactions go to the primary even when replicas are configured (see
+ * ReadWriteRoutingDataSource).
+ *
+ * A replica may not have applied a write yet when the catalog version is bumped
+ * after commit; a load from it would then be cached under the new version (or
+ * refill an evicted project) with the old rows, for as long as the entry lives.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,37 @@
+package com.portfolio.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read From Primary Aspect
+ *
+ * Runs @ReadFromPrimary methods with the routing DataSource forced to the primary.
+ *
+ * Advice order (outermost first):
+ * 1. Cache (CacheConfig): a hit never gets here
+ * 2. Coalescing: only the call that runs the method gets here
+ * 3. This aspect, then the transaction; the connection is taken at the first
+ *    statement (LazyConnectionDataSourceProxy), so the flag is already set
+ *
+ * Without replicas there is only the primary and the flag has no effect.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.portfolio.routing.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReadWriteRoutingDataSource.forcePrimary(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadWriteRoutingDataSource.forcePrimary(previous);
+        }
+    }
+}
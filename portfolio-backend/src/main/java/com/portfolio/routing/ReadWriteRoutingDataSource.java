@@ -0,0 +1,240 @@
+package com.portfolio.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read/Write Routing DataSource
+ *
+ * Sends read-only transactions to a read replica and everything else to the primary.
+ *
+ * This class demonstrates:
+ * - Design Pattern: Proxy (one DataSource in front of primary and replicas)
+ * - Load balancing: Round robin over the replicas that passed their last health check
+ * - Consistency: Read-your-writes stickiness after a write
+ *
+ * A connection goes to a replica only if all of these hold:
+ * - it is taken inside a @Transactional(readOnly = true) transaction; this only
+ *   works behind a LazyConnectionDataSourceProxy, which defers taking the connection
+ *   until the first statement, after the transaction is marked read-only
+ * - at least one replica is healthy (see checkHealth)
+ * - the current client has not written within the sticky window; replicas may
+ *   lag behind, so right after a write the client reads from the primary
+ * - the read is not forced to the primary (@ReadFromPrimary: loads that fill a
+ *   cache, whose entries would keep a lagging replica's rows past the window)
+ *
+ * Connections outside transactions (Flyway, JdbcTemplate) always go to the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public static final String PRIMARY = "primary";
+
+    // Client of the current request (see RoutingConfig); null on background threads
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    // Set while a @ReadFromPrimary method runs (see ReadFromPrimaryAspect)
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    // Healthy replicas, replaced as a whole when a health check changes it
+    private volatile List<Replica> healthy;
+
+    // Clients that wrote recently; an entry expires after the sticky window
+    private final Cache<String, Boolean> recentWriters;
+
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      Duration stickyWindow, Duration healthCheckTimeout) {
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.healthy = this.replicas;
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickyWindow)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Bind the client of the current request (for read-your-writes)
+     */
+    public static void bindClient(String client) {
+        CLIENT.set(client);
+    }
+
+    public static void unbindClient() {
+        CLIENT.remove();
+    }
+
+    /**
+     * Send the current thread's read-only transactions to the primary, or stop doing so
+     *
+     * @return The previous setting, to restore afterwards
+     */
+    public static boolean forcePrimary(boolean force) {
+        boolean previous = Boolean.TRUE.equals(FORCE_PRIMARY.get());
+        if (force) {
+            FORCE_PRIMARY.set(Boolean.TRUE);
+        } else {
+            FORCE_PRIMARY.remove();
+        }
+        return previous;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String client = CLIENT.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriter(client);
+            return PRIMARY;
+        }
+
+        List<Replica> candidates = healthy;
+        if (candidates.isEmpty() || Boolean.TRUE.equals(FORCE_PRIMARY.get())
+                || (client != null && recentWriters.getIfPresent(client) != null)) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size())).name();
+    }
+
+    /**
+     * Probe every replica and update the set used for reads
+     * Called periodically by RoutingConfig
+     */
+    public void checkHealth() {
+        boolean changed = false;
+        for (Replica replica : replicas) {
+            boolean up = isValid(replica.dataSource());
+            if (up != replica.up) {
+                replica.up = up;
+                changed = true;
+                if (up) {
+                    log.info("Read replica {} is healthy again", replica.name());
+                } else {
+                    log.warn("Read replica {} failed its health check, reading from the others", replica.name());
+                }
+            }
+        }
+        if (changed) {
+            healthy = replicas.stream().filter(replica -> replica.up).toList();
+        }
+    }
+
+    /**
+     * Close the primary and replica pools
+     */
+    public void close() {
+        getResolvedDataSources().values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close connection pool", e);
+                }
+            }
+        });
+    }
+
+    public int getHealthyReplicaCount() {
+        return healthy.size();
+    }
+
+    /**
+     * Read-only transactions sent to the primary (no healthy replica, sticky after a write,
+     * or forced by @ReadFromPrimary)
+     */
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    /**
+     * Read-only transactions sent to a replica
+     */
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    /**
+     * Helper method: Start (or restart) the sticky window of a writing client
+     * The window is restarted after commit, so a long transaction cannot use it up
+     */
+    private void markWriter(String client) {
+        if (client == null) {
+            return;
+        }
+        recentWriters.put(client, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recentWriters.put(client, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()));
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * One replica and the result of its last health check
+     */
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean up = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.portfolio.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read Replica Routing Configuration
+ *
+ * Active when portfolio.datasource.replicas.urls lists at least one replica
+ * (see application-replicas.properties); otherwise the single auto-configured
+ * DataSource is used as before.
+ *
+ * Replaces the auto-configured DataSource with:
+ * LazyConnectionDataSourceProxy -> ReadWriteRoutingDataSource -> primary pool + one pool per replica
+ *
+ * - The primary pool is built from spring.datasource.*; replicas use the same
+ *   driver and credentials unless portfolio.datasource.replicas.username/password are set
+ * - Replicas are probed every health-check-interval
+ * - An interceptor binds the client address to each API request for read-your-writes;
+ *   behind a reverse proxy that is the address RemoteIpValve takes from X-Forwarded-For
+ *   (server.forward-headers-strategy=native), not the proxy's, so clients do not share
+ *   one another's stickiness
+ *
+ * Metrics: hikaricp.* per pool (primary, replica-1, ...),
+ * portfolio.datasource.replicas.healthy and portfolio.datasource.reads{target}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolio.datasource.replicas.urls")
+public class RoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, MeterRegistry meterRegistry,
+                                 @Value("${portfolio.datasource.replicas.urls}") List<String> replicaUrls,
+                                 @Value("${portfolio.datasource.replicas.username:#{null}}") String replicaUsername,
+                                 @Value("${portfolio.datasource.replicas.password:#{null}}") String replicaPassword,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+                                 @Value("${portfolio.datasource.replicas.pool-size:10}") int replicaPoolSize,
+                                 @Value("${portfolio.datasource.replicas.sticky-window:5s}") Duration stickyWindow,
+                                 @Value("${portfolio.datasource.replicas.health-check-timeout:1s}") Duration healthCheckTimeout) {
+        HikariDataSource primary = pool(properties, properties.getUrl(), properties.getUsername(),
+                properties.getPassword(), "primary", primaryPoolSize, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            String name = "replica-" + (replicas.size() + 1);
+            replicas.put(name, pool(properties, url.trim(),
+                    replicaUsername != null ? replicaUsername : properties.getUsername(),
+                    replicaPassword != null ? replicaPassword : properties.getPassword(),
+                    name, replicaPoolSize, meterRegistry));
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primary, replicas, stickyWindow, healthCheckTimeout);
+        routing.afterPropertiesSet();
+
+        Gauge.builder("portfolio.datasource.replicas.healthy", routing,
+                        ReadWriteRoutingDataSource::getHealthyReplicaCount)
+                .description("Read replicas that passed their last health check")
+                .register(meterRegistry);
+        FunctionCounter.builder("portfolio.datasource.reads", routing, ReadWriteRoutingDataSource::getReplicaReads)
+                .description("Read-only transactions by the database they were sent to")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        FunctionCounter.builder("portfolio.datasource.reads", routing, ReadWriteRoutingDataSource::getPrimaryReads)
+                .description("Read-only transactions by the database they were sent to")
+                .tag("target", "primary")
+                .register(meterRegistry);
+
+        // Decide primary or replica at the first statement, once the transaction is marked read-only
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthChecker replicaHealthChecker(
+            DataSource dataSource,
+            @Value("${portfolio.datasource.replicas.health-check-interval:5s}") Duration interval) throws SQLException {
+        return new ReplicaHealthChecker(dataSource.unwrap(ReadWriteRoutingDataSource.class), interval);
+    }
+
+    @Bean
+    public WebMvcConfigurer routingClientInterceptorConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                                             Object handler) {
+                        ReadWriteRoutingDataSource.bindClient(request.getRemoteAddr());
+                        return true;
+                    }
+
+                    @Override
+                    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                                Object handler, Exception ex) {
+                        ReadWriteRoutingDataSource.unbindClient();
+                    }
+                }).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    /**
+     * Probes the replicas periodically; closes all pools on shutdown
+     */
+    public static class ReplicaHealthChecker implements AutoCloseable {
+
+        private final ReadWriteRoutingDataSource routing;
+        private final ScheduledExecutorService executor;
+
+        ReplicaHealthChecker(ReadWriteRoutingDataSource routing, Duration interval) {
+            this.routing = routing;
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(routing::checkHealth, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+            routing.close();
+        }
+    }
+
+    /**
+     * Helper method: One Hikari pool with its metrics
+     */
+    private static HikariDataSource pool(DataSourceProperties properties, String url, String username,
+                                         String password, String name, int size, MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(size);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,316 @@
+package com.portfolio.search;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SearchResult;
+import com.portfolio.event.ProjectChangedEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Project Search Index
+ *
+ * In-process inverted index over title, techStack and description.
+ * One instance per tenant, managed by TenantIndexes.
+ *
+ * This class demonstrates:
+ * - Data Structure: Inverted index (term -> postings of project id and weight)
+ * - Data Structure: Sorted term dictionary for prefix matching
+ * - Design Pattern: Observer (kept up to date from ProjectChangedEvent)
+ *
+ * Scoring is TF-IDF style: each field has a weight (title 3, techStack 2,
+ * description 1), rarer terms count more, and prefix matches count less than
+ * exact ones. Every query token must match (AND semantics).
+ *
+ * Queries only touch the postings of the query terms, so their cost does not
+ * depend on the number of projects. Reads share a read lock; updates take the
+ * write lock for the few postings of one project.
+ */
+public class ProjectSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TECH_STACK_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    // Score factor for a prefix match compared to an exact match
+    private static final double PREFIX_FACTOR = 0.5;
+
+    // Upper bound on dictionary terms one query token may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (project id -> weighted term frequency)
+    private TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+    // project id -> indexed document (needed to remove old postings and to return results)
+    private Map<Long, IndexedProject> documents = new HashMap<>();
+
+    // Events received while a rebuild is running, replayed after the swap
+    private List<ProjectChangedEvent> pendingEvents;
+
+    /**
+     * Keep the index in sync with ProjectService writes (after commit, routed by TenantIndexes)
+     */
+    public void onProjectChanged(ProjectChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search projects
+     *
+     * @param query Free text; every token must match a term exactly or as a prefix
+     * @param limit Maximum number of results
+     * @return Results ordered by descending score
+     */
+    public List<SearchResult> search(String query, int limit) {
+        List<String> tokens = Tokenizer.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int totalDocuments = documents.size();
+            Map<Long, double[]> matches = null;
+
+            for (int t = 0; t < tokens.size(); t++) {
+                Map<Long, Double> tokenScores = scoreToken(tokens.get(t), totalDocuments);
+                if (matches == null) {
+                    matches = new HashMap<>(tokenScores.size() * 2);
+                    for (Map.Entry<Long, Double> entry : tokenScores.entrySet()) {
+                        matches.put(entry.getKey(), new double[]{entry.getValue()});
+                    }
+                } else {
+                    // AND semantics: drop documents that do not match this token
+                    matches.keySet().retainAll(tokenScores.keySet());
+                    for (Map.Entry<Long, double[]> entry : matches.entrySet()) {
+                        entry.getValue()[0] += tokenScores.get(entry.getKey());
+                    }
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return topResults(matches, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed projects
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from a source of projects
+     * Chunks of projects are tokenized in parallel into partial indexes, which are
+     * merged and swapped in at the end. Changes that arrive meanwhile are replayed
+     * on top of the new index.
+     *
+     * @param source Calls the given sink once for every project
+     */
+    public void rebuild(Consumer<Consumer<ProjectDTO>> source) {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<PartialIndex>> parts = new ArrayList<>();
+            List<ProjectDTO> chunk = new ArrayList<>(REBUILD_CHUNK_SIZE);
+            source.accept(project -> {
+                chunk.add(project);
+                if (chunk.size() == REBUILD_CHUNK_SIZE) {
+                    List<ProjectDTO> full = new ArrayList<>(chunk);
+                    parts.add(CompletableFuture.supplyAsync(() -> PartialIndex.of(full), executor));
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                parts.add(CompletableFuture.supplyAsync(() -> PartialIndex.of(chunk), executor));
+            }
+
+            TreeMap<String, Map<Long, Float>> newPostings = new TreeMap<>();
+            Map<Long, IndexedProject> newDocuments = new HashMap<>();
+            for (CompletableFuture<PartialIndex> part : parts) {
+                part.join().mergeInto(newPostings, newDocuments);
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                documents = newDocuments;
+                for (ProjectChangedEvent event : pendingEvents) {
+                    apply(event);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Helper method: Apply one change; caller holds the write lock
+     */
+    private void apply(ProjectChangedEvent event) {
+        remove(event.getProjectId());
+        if (event.getType() != ProjectChangedEvent.Type.DELETED && event.getProject() != null) {
+            IndexedProject document = IndexedProject.of(event.getProject());
+            documents.put(document.project().getId(), document);
+            document.termWeights().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, k -> new HashMap<>()).put(document.project().getId(), weight));
+        }
+    }
+
+    private void remove(Long projectId) {
+        IndexedProject old = documents.remove(projectId);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.termWeights().keySet()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(projectId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method: Score all documents matching one token (exact or prefix)
+     */
+    private Map<Long, Double> scoreToken(String token, int totalDocuments) {
+        Map<Long, Double> scores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Float>> entry
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Map<Long, Float> termPostings = entry.getValue();
+            double idf = Math.log(1.0 + (double) totalDocuments / termPostings.size());
+            double matchFactor = entry.getKey().length() == token.length() ? 1.0 : PREFIX_FACTOR;
+            for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                float weight = posting.getValue();
+                double score = idf * matchFactor * (weight / (weight + 1.2));
+                scores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Helper method: Pick the best results with a bounded min-heap
+     * Equal scores are ordered by id, so the same query always returns the same
+     * results in the same order (stable paging)
+     */
+    private List<SearchResult> topResults(Map<Long, double[]> matches, int limit) {
+        // Worst first: lowest score, then highest id
+        Comparator<Map.Entry<Long, double[]>> worstFirst =
+                Comparator.<Map.Entry<Long, double[]>>comparingDouble(entry -> entry.getValue()[0])
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<Long, double[]>> heap = new PriorityQueue<>(worstFirst);
+        for (Map.Entry<Long, double[]> entry : matches.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<SearchResult> results = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Long, double[]> entry = heap.poll();
+            results.add(new SearchResult(documents.get(entry.getKey()).project(), entry.getValue()[0]));
+        }
+        results.sort(Comparator.comparingDouble(SearchResult::getScore).reversed()
+                .thenComparing(result -> result.getProject().getId()));
+        return results;
+    }
+
+    /**
+     * One indexed project: the DTO returned in results and its term weights
+     */
+    private record IndexedProject(ProjectDTO project, Map<String, Float> termWeights) {
+
+        static IndexedProject of(ProjectDTO project) {
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, project.getTitle(), TITLE_WEIGHT);
+            addField(weights, project.getTechStack(), TECH_STACK_WEIGHT);
+            addField(weights, project.getDescription(), DESCRIPTION_WEIGHT);
+            return new IndexedProject(project, weights);
+        }
+
+        private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+            for (String term : Tokenizer.tokenize(text)) {
+                weights.merge(term, fieldWeight, Float::sum);
+            }
+        }
+    }
+
+    /**
+     * Index of one rebuild chunk, built without locks on a worker thread
+     */
+    private record PartialIndex(List<IndexedProject> documents) {
+
+        static PartialIndex of(List<ProjectDTO> projects) {
+            List<IndexedProject> documents = new ArrayList<>(projects.size());
+            for (ProjectDTO project : projects) {
+                documents.add(IndexedProject.of(project));
+            }
+            return new PartialIndex(documents);
+        }
+
+        void mergeInto(TreeMap<String, Map<Long, Float>> postings, Map<Long, IndexedProject> allDocuments) {
+            for (IndexedProject document : documents) {
+                Long id = document.project().getId();
+                allDocuments.put(id, document);
+                document.termWeights().forEach((term, weight) ->
+                        postings.computeIfAbsent(term, k -> new HashMap<>()).put(id, weight));
+            }
+        }
+    }
+}
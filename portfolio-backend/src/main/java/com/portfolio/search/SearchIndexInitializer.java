@@ -0,0 +1,69 @@
+package com.portfolio.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Search Index Initializer
+ * 
+ * Builds the in-memory indexes (full-text and tech tags) of every tenant from the
+ * database once the application has started, so no tenant's first query waits
+ * for a build. Later changes reach them through ProjectChangedEvent.
+ * 
+ * With portfolio.search.background-rebuild=true the build runs on the
+ * applicationTaskExecutor, so startup time does not grow with the number of rows.
+ */
+@Component
+public class SearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private final TenantIndexes tenantIndexes;
+    private final AsyncTaskExecutor executor;
+
+    @Value("${portfolio.search.background-rebuild:false}")
+    private boolean backgroundRebuild;
+
+    @Autowired
+    public SearchIndexInitializer(TenantIndexes tenantIndexes,
+                                  @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        this.tenantIndexes = tenantIndexes;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (backgroundRebuild) {
+            executor.execute(() -> {
+                try {
+                    buildIndexes();
+                } catch (RuntimeException e) {
+                    // e.g. the application is shut down while the indexes are built
+                    log.warn("Search index build failed: {}", e.toString());
+                }
+            });
+        } else {
+            buildIndexes();
+        }
+    }
+
+    public void buildIndexes() {
+        long start = System.nanoTime();
+        List<String> tenantIds = tenantIndexes.tenantIds();
+        long projects = 0;
+        for (String tenantId : tenantIds) {
+            projects += tenantIndexes.build(tenantId);
+        }
+        log.info("Search and tech tag indexes built for {} tenants with {} projects in {} ms",
+                tenantIds.size(), projects, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,288 @@
+package com.portfolio.search;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.TechFacet;
+import com.portfolio.event.ProjectChangedEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Tech Tag Index
+ *
+ * Normalized, interned tech-stack tags with bitmap postings.
+ * One instance per tenant, managed by TenantIndexes.
+ *
+ * This class demonstrates:
+ * - Data Structure: Interned dictionary (tag name -> small integer id)
+ * - Data Structure: Bitmap postings (one BitSet of project ordinals per tag)
+ * - Design Pattern: Observer (kept up to date from ProjectChangedEvent)
+ *
+ * Project.techStack stays a free-form string for API compatibility; it is split
+ * on ',', ';', '/' and '|' and normalized (trimmed, lower-case, single spaces),
+ * so "Spring Boot" and " spring  boot" are the same tag. Tag filters and facet
+ * counts are answered with BitSet AND/OR and cardinality, without scanning rows.
+ */
+public class TechTagIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Interned dictionary: normalized tag -> tag id, and tag id -> display name
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+
+    // tag id -> ordinals of the projects that use the tag
+    private final List<BitSet> postings = new ArrayList<>();
+
+    // Dense ordinals so the bitmaps stay small; freed ordinals are reused
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<ProjectDTO> projectsByOrdinal = new ArrayList<>();
+    private final List<int[]> tagsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    // Events received while a rebuild is running, replayed after it
+    private List<ProjectChangedEvent> pendingEvents;
+
+    /**
+     * Split and normalize a techStack string into distinct tags, in order
+     */
+    public static List<String> normalize(String techStack) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (techStack == null) {
+            return new ArrayList<>(tags);
+        }
+        for (String part : techStack.split("[,;/|]")) {
+            String tag = part.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    /**
+     * Keep the index in sync with ProjectService writes (after commit, routed by TenantIndexes)
+     */
+    public void onProjectChanged(ProjectChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find projects by tech tags
+     *
+     * @param tags Tags to look for (normalized like techStack)
+     * @param matchAll true: project must use every tag (AND); false: any tag (OR)
+     * @return Matching projects ordered by id
+     */
+    public List<ProjectDTO> findByTags(List<String> tags, boolean matchAll) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(tags, matchAll);
+            List<ProjectDTO> result = new ArrayList<>(matches.cardinality());
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                result.add(projectsByOrdinal.get(ordinal));
+            }
+            result.sort(Comparator.comparing(ProjectDTO::getId));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count projects per tag
+     *
+     * @param filterTags Optional tags restricting the projects counted (null or empty: all)
+     * @param matchAll AND/OR semantics of filterTags
+     * @return Tags with at least one project, most used first
+     */
+    public List<TechFacet> facets(List<String> filterTags, boolean matchAll) {
+        lock.readLock().lock();
+        try {
+            BitSet scope = filterTags == null || filterTags.isEmpty()
+                    ? null
+                    : match(filterTags, matchAll);
+
+            List<TechFacet> facets = new ArrayList<>();
+            for (int tagId = 0; tagId < postings.size(); tagId++) {
+                BitSet tagPostings = postings.get(tagId);
+                int count;
+                if (scope == null) {
+                    count = tagPostings.cardinality();
+                } else {
+                    BitSet intersection = (BitSet) tagPostings.clone();
+                    intersection.and(scope);
+                    count = intersection.cardinality();
+                }
+                if (count > 0) {
+                    facets.add(new TechFacet(tagNames.get(tagId), count));
+                }
+            }
+            facets.sort(Comparator.comparingLong(TechFacet::getCount).reversed()
+                    .thenComparing(TechFacet::getTag));
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from a source of projects
+     * Changes that arrive meanwhile are replayed on top of the rebuilt index.
+     *
+     * @param source Calls the given sink once for every project
+     */
+    public void rebuild(Consumer<Consumer<ProjectDTO>> source) {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<ProjectDTO> projects = new ArrayList<>();
+        boolean loaded = false;
+        try {
+            source.accept(projects::add);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    clear();
+                    for (ProjectDTO project : projects) {
+                        add(project);
+                    }
+                    for (ProjectChangedEvent event : pendingEvents) {
+                        apply(event);
+                    }
+                }
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Helper method: Bitmap of projects matching the tags; caller holds a lock
+     */
+    private BitSet match(List<String> tags, boolean matchAll) {
+        BitSet result = null;
+        for (String tag : tags) {
+            for (String normalized : normalize(tag)) {
+                Integer tagId = tagIds.get(normalized);
+                BitSet tagPostings = tagId != null ? postings.get(tagId) : new BitSet();
+                if (result == null) {
+                    result = (BitSet) tagPostings.clone();
+                } else if (matchAll) {
+                    result.and(tagPostings);
+                } else {
+                    result.or(tagPostings);
+                }
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    /**
+     * Helper method: Apply one change; caller holds the write lock
+     */
+    private void apply(ProjectChangedEvent event) {
+        remove(event.getProjectId());
+        if (event.getType() != ProjectChangedEvent.Type.DELETED && event.getProject() != null) {
+            add(event.getProject());
+        }
+    }
+
+    private void add(ProjectDTO project) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = projectsByOrdinal.size();
+            projectsByOrdinal.add(project);
+            tagsByOrdinal.add(null);
+        } else {
+            ordinal = freeOrdinals.pop();
+            projectsByOrdinal.set(ordinal, project);
+        }
+
+        List<String> tags = normalize(project.getTechStack());
+        int[] projectTagIds = new int[tags.size()];
+        for (int i = 0; i < tags.size(); i++) {
+            int tagId = intern(tags.get(i), project.getTechStack());
+            postings.get(tagId).set(ordinal);
+            projectTagIds[i] = tagId;
+        }
+
+        tagsByOrdinal.set(ordinal, projectTagIds);
+        ordinals.put(project.getId(), ordinal);
+    }
+
+    private void remove(Long projectId) {
+        Integer ordinal = ordinals.remove(projectId);
+        if (ordinal == null) {
+            return;
+        }
+        for (int tagId : tagsByOrdinal.get(ordinal)) {
+            postings.get(tagId).clear(ordinal);
+        }
+        projectsByOrdinal.set(ordinal, null);
+        tagsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Helper method: Tag id of a normalized tag, registering it on first use
+     * The display name is taken from the techStack where the tag first appeared
+     */
+    private int intern(String tag, String techStack) {
+        Integer tagId = tagIds.get(tag);
+        if (tagId != null) {
+            return tagId;
+        }
+        tagId = tagNames.size();
+        tagIds.put(tag, tagId);
+        tagNames.add(displayName(tag, techStack));
+        postings.add(new BitSet());
+        return tagId;
+    }
+
+    private static String displayName(String tag, String techStack) {
+        for (String part : techStack.split("[,;/|]")) {
+            String trimmed = part.trim().replaceAll("\\s+", " ");
+            if (trimmed.equalsIgnoreCase(tag)) {
+                return trimmed;
+            }
+        }
+        return tag;
+    }
+
+    private void clear() {
+        tagIds.clear();
+        tagNames.clear();
+        postings.clear();
+        ordinals.clear();
+        projectsByOrdinal.clear();
+        tagsByOrdinal.clear();
+        freeOrdinals.clear();
+    }
+}
@@ -0,0 +1,170 @@
+package com.portfolio.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.SearchResult;
+import com.portfolio.dto.TechFacet;
+import com.portfolio.event.ProjectChangedEvent;
+import com.portfolio.repository.ProjectRepository;
+import com.portfolio.tenant.TenantContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Tenant Indexes
+ *
+ * One full-text index (ProjectSearchIndex) and one tag index (TechTagIndex)
+ * per tenant.
+ *
+ * This class demonstrates:
+ * - Partitioning: queries only touch the calling tenant's postings and bitmaps,
+ *   and relevance (IDF) is computed within the tenant, so a large tenant neither
+ *   slows down nor skews the results of the others
+ * - Lazy loading: a tenant's indexes are built from the database on its first
+ *   query; queries wait for that build, later changes arrive as ProjectChangedEvent
+ * - Design Pattern: Observer (changes are routed to the owning tenant's indexes)
+ *
+ * At most portfolio.tenant.max-tenants tenants are kept in memory; the least
+ * recently used beyond that are dropped and rebuilt when queried again.
+ *
+ * The builds read through ProjectRepository rather than ProjectService, which
+ * depends on this class.
+ */
+@Component
+public class TenantIndexes {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, Partition> partitions;
+    private final long maxTenants;
+
+    @Autowired
+    public TenantIndexes(ProjectRepository projectRepository, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${portfolio.tenant.max-tenants:1000}") long maxTenants) {
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxTenants = maxTenants;
+        this.partitions = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .build();
+
+        Gauge.builder("portfolio.tenant.indexed", partitions, Cache::estimatedSize)
+                .description("Tenants with search and tag indexes in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Full-text search within the current tenant, see ProjectSearchIndex.search
+     */
+    public List<SearchResult> search(String query, int limit) {
+        return partition().searchIndex.search(query, limit);
+    }
+
+    /**
+     * Tag filter within the current tenant, see TechTagIndex.findByTags
+     */
+    public List<ProjectDTO> findByTags(List<String> tags, boolean matchAll) {
+        return partition().techTagIndex.findByTags(tags, matchAll);
+    }
+
+    /**
+     * Tag counts within the current tenant, see TechTagIndex.facets
+     */
+    public List<TechFacet> facets(List<String> filterTags, boolean matchAll) {
+        return partition().techTagIndex.facets(filterTags, matchAll);
+    }
+
+    /**
+     * Build (or rebuild) the indexes of one tenant now
+     *
+     * @return Number of indexed projects
+     */
+    public int build(String tenantId) {
+        Partition partition = partitions.get(tenantId, Partition::new);
+        partition.rebuild();
+        return partition.searchIndex.size();
+    }
+
+    /**
+     * Tenants that own projects, at most as many as are kept in memory
+     */
+    public List<String> tenantIds() {
+        return projectRepository.findTenantIds(PageRequest.of(0, (int) Math.min(maxTenants, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Keep the tenant's indexes in sync with ProjectService writes (after commit)
+     * Tenants without indexes in memory build them from the database when queried
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Partition partition = partitions.getIfPresent(event.getTenantId());
+        if (partition != null) {
+            partition.searchIndex.onProjectChanged(event);
+            partition.techTagIndex.onProjectChanged(event);
+        }
+    }
+
+    /**
+     * Helper method: Indexes of the current tenant, built on first use
+     */
+    private Partition partition() {
+        Partition partition = partitions.get(TenantContext.current(), Partition::new);
+        partition.ensureBuilt();
+        return partition;
+    }
+
+    /**
+     * Indexes of one tenant
+     * Created empty; events that arrive during the build are replayed by the indexes
+     */
+    private class Partition {
+
+        private final String tenantId;
+        private final ProjectSearchIndex searchIndex = new ProjectSearchIndex();
+        private final TechTagIndex techTagIndex = new TechTagIndex();
+        private volatile boolean built;
+
+        Partition(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        void ensureBuilt() {
+            if (!built) {
+                synchronized (this) {
+                    if (!built) {
+                        rebuild();
+                    }
+                }
+            }
+        }
+
+        synchronized void rebuild() {
+            searchIndex.rebuild(this::streamProjects);
+            techTagIndex.rebuild(this::streamProjects);
+            built = true;
+        }
+
+        private void streamProjects(Consumer<ProjectDTO> sink) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ProjectDTO> projects = projectRepository.streamAllProjected(tenantId)) {
+                    projects.forEach(sink);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tokenizer for the search index
+ * 
+ * Splits text into lower-case terms on anything that is not a letter, digit,
+ * '+' or '#' (so "C++", "C#" and "Node.js" become "c++", "c#", "node", "js").
+ * Used both for indexing and for queries so that both sides agree on terms.
+ */
+final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean termChar = Character.isLetterOrDigit(c) || c == '+' || c == '#';
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lower.substring(start));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,70 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Project Async Service
+ * 
+ * CompletableFuture-returning variants of the ProjectService methods.
+ * 
+ * Calls run on Spring Boot's applicationTaskExecutor. With
+ * spring.threads.virtual.enabled=true (Java 21+) that executor creates one
+ * virtual thread per task; otherwise it is the regular bounded thread pool.
+ * Each call goes through the ProjectService proxy, so caching and transactions
+ * still apply. Database concurrency is bounded by the connection pool (and the
+ * ConnectionLimitingDataSource when enabled), not by the number of callers.
+ * Calls run for the caller's tenant (TenantContext is carried over to the executor).
+ */
+@Service
+public class ProjectAsyncService {
+
+    private final ProjectService projectService;
+    private final AsyncTaskExecutor executor;
+
+    @Autowired
+    public ProjectAsyncService(ProjectService projectService,
+                               @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        this.projectService = projectService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<List<ProjectDTO>> getAllProjects() {
+        return supplyForTenant(projectService::getAllProjects);
+    }
+
+    public CompletableFuture<ProjectDTO> getProjectById(Long id) {
+        return supplyForTenant(() -> projectService.getProjectById(id));
+    }
+
+    public CompletableFuture<ProjectDTO> createProject(ProjectDTO projectDTO) {
+        return supplyForTenant(() -> projectService.createProject(projectDTO));
+    }
+
+    public CompletableFuture<ProjectDTO> updateProject(Long id, ProjectDTO projectDTO) {
+        return supplyForTenant(() -> projectService.updateProject(id, projectDTO));
+    }
+
+    public CompletableFuture<Void> deleteProject(Long id) {
+        return supplyForTenant(() -> {
+            projectService.deleteProject(id);
+            return null;
+        });
+    }
+
+    /**
+     * Helper method: Run on the executor for the calling thread's tenant
+     */
+    private <T> CompletableFuture<T> supplyForTenant(Supplier<T> call) {
+        String tenantId = TenantContext.current();
+        return CompletableFuture.supplyAsync(() -> TenantContext.callAs(tenantId, call), executor);
+    }
+}
@@ -0,0 +1,217 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.event.ProjectChangedEvent;
+import com.portfolio.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Project List Snapshot
+ *
+ * Pre-serialized JSON (and optionally gzip) bytes of the full project list,
+ * written by GET /api/projects without touching Jackson or the database.
+ *
+ * This class demonstrates:
+ * - Design Pattern: Observer (rebuilt after ProjectChangedEvent)
+ * - Concurrency: Copy-on-write (immutable snapshot swapped through an AtomicReference)
+ * - Concurrency: Coalescing (a burst of writes causes one background rebuild)
+ *
+ * Each snapshot is stamped with the catalog version it was built from. Readers
+ * take the current snapshot without locking and only use it if its version is
+ * the current catalog version; otherwise they fall back to the normal path
+ * while a rebuild runs on a single background thread.
+ *
+ * Rebuilds are incremental: the serialized bytes of every project are kept per
+ * id and version, so only changed projects are serialized again.
+ *
+ * Every tenant has its own snapshot, built on its first list request and
+ * rebuilt after its own changes only. At most portfolio.tenant.max-tenants
+ * snapshots are kept; one thread rebuilds them all, and readers of a tenant
+ * whose snapshot is still being rebuilt take the normal path meanwhile.
+ */
+@Component
+public class ProjectListSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectListSnapshot.class);
+
+    /**
+     * One immutable, version-stamped snapshot
+     */
+    public record Snapshot(long version, byte[] json, byte[] gzip) {
+    }
+
+    /**
+     * Serialized bytes of one project at one entity version
+     */
+    private record Fragment(Long version, byte[] json) {
+    }
+
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${portfolio.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${portfolio.snapshot.gzip:true}")
+    private boolean gzipEnabled;
+
+    // tenant id -> snapshot state of that tenant
+    private final Cache<String, TenantSnapshot> snapshots;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "project-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ProjectListSnapshot(ProjectService projectService, ObjectMapper objectMapper,
+                               @Value("${portfolio.tenant.max-tenants:1000}") long maxTenants) {
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .build();
+    }
+
+    /**
+     * Snapshot of the current tenant for the given catalog version
+     *
+     * @return The snapshot, or null if disabled or not (yet) built for this version
+     */
+    public Snapshot get(long catalogVersion) {
+        if (!enabled) {
+            return null;
+        }
+        String tenantId = TenantContext.current();
+        TenantSnapshot tenant = snapshots.get(tenantId, key -> new TenantSnapshot());
+        Snapshot snapshot = tenant.current.get();
+        if (snapshot != null && snapshot.version() == catalogVersion) {
+            return snapshot;
+        }
+        requestRebuild(tenantId, tenant);
+        return null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild(TenantContext.DEFAULT_TENANT);
+    }
+
+    /**
+     * Rebuild the snapshot of the changed tenant, if it has one
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        TenantSnapshot tenant = snapshots.getIfPresent(event.getTenantId());
+        if (tenant != null) {
+            requestRebuild(event.getTenantId(), tenant);
+        }
+    }
+
+    /**
+     * Schedule a background rebuild of a tenant's snapshot unless one is already waiting to run
+     */
+    public void requestRebuild(String tenantId) {
+        if (enabled) {
+            requestRebuild(tenantId, snapshots.get(tenantId, key -> new TenantSnapshot()));
+        }
+    }
+
+    private void requestRebuild(String tenantId, TenantSnapshot tenant) {
+        if (enabled && tenant.rebuildScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> TenantContext.runAs(tenantId, () -> rebuild(tenant)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Helper method: Build and swap in a snapshot of the current tenant's catalog
+     * The version is read before the list, so the list is never older than the stamp.
+     * The list comes from getAllProjects, which reads from the primary (@ReadFromPrimary),
+     * so a lagging read replica cannot put old rows under a new version.
+     */
+    private void rebuild(TenantSnapshot tenant) {
+        tenant.rebuildScheduled.set(false);
+        try {
+            long start = System.nanoTime();
+            long version = projectService.getCatalogVersion();
+            List<ProjectDTO> projects = projectService.getAllProjects();
+
+            Map<Long, Fragment> newFragments = new HashMap<>(projects.size() * 2);
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            json.write('[');
+            for (int i = 0; i < projects.size(); i++) {
+                ProjectDTO project = projects.get(i);
+                Fragment fragment = tenant.fragments.get(project.getId());
+                if (fragment == null || !fragment.version().equals(project.getVersion())) {
+                    fragment = new Fragment(project.getVersion(), objectMapper.writeValueAsBytes(project));
+                }
+                newFragments.put(project.getId(), fragment);
+                if (i > 0) {
+                    json.write(',');
+                }
+                json.writeBytes(fragment.json());
+            }
+            json.write(']');
+            tenant.fragments = newFragments;
+
+            byte[] jsonBytes = json.toByteArray();
+            Snapshot snapshot = new Snapshot(version, jsonBytes, gzipEnabled ? gzip(jsonBytes) : null);
+            tenant.current.accumulateAndGet(snapshot, (old, built) ->
+                    old == null || built.version() >= old.version() ? built : old);
+            log.debug("Project list snapshot v{} of tenant {} built: {} projects, {} bytes in {} ms",
+                    version, TenantContext.current(), projects.size(), jsonBytes.length, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Project list snapshot rebuild failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * Snapshot state of one tenant
+     */
+    private static class TenantSnapshot {
+
+        private final AtomicReference<Snapshot> current = new AtomicReference<>();
+        private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+        // Only touched by the rebuild thread
+        private Map<Long, Fragment> fragments = new HashMap<>();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,14 +1,59 @@
 package com.portfolio.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.coalescing.Coalesced;
+import com.portfolio.config.CacheConfig;
+import com.portfolio.dto.BatchItemResult;
+import com.portfolio.dto.BatchResponse;
 import com.portfolio.dto.ProjectDTO;
+import com.portfolio.dto.ProjectPage;
+import com.portfolio.dto.SearchResult;
+import com.portfolio.dto.TechFacet;
+import com.portfolio.dto.TenantProjectRef;
+import com.portfolio.event.ProjectChangedEvent;
 import com.portfolio.entity.Project;
+import com.portfolio.exception.PreconditionFailedException;
 import com.portfolio.exception.ResourceNotFoundException;
+import com.portfolio.links.LinkStatus;
 import com.portfolio.repository.ProjectRepository;
+import com.portfolio.routing.ReadFromPrimary;
+import com.portfolio.search.TenantIndexes;
+import com.portfolio.tenant.TenantContext;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Project Service Layer
@@ -26,106 +71,750 @@ import java.util.stream.Collectors;
  * 
  * Layered Architecture:
  * Controller (REST API) -> Service (Business Logic) -> Repository (Data Access) -> Database
+ * 
+ * Caching:
+ * Reads go through the "project" and "projectLists" caches (see CacheConfig).
+ * Single projects are cached by id, and a write evicts only the ids it wrote,
+ * after commit. They are loaded with sync = true: an eviction waits for a load
+ * of the same id that is still running, so a miss that read the old row just
+ * before a commit cannot store it after the eviction. Writes clear the list
+ * entries. Cached DTOs are shared between callers and must not be modified.
+ * Cache loads read from the primary (@ReadFromPrimary), never from a read replica
+ * that may not have applied the write yet.
+ * 
+ * Coalescing:
+ * Concurrent cache misses for the same list read share one database call
+ * (@Coalesced, see CoalescingAspect); single-project misses already share one
+ * load through sync = true. The keys contain the catalog version, so a read
+ * that starts after a write never joins a call that started before it.
+ * 
+ * Catalog version:
+ * A counter bumped after every write. It is the collection-level ETag and is part
+ * of the list cache keys, so a list cached under an old version is never served
+ * for a newer one.
+ * 
+ * Tenants:
+ * Every method works on the projects of TenantContext.current() only. The
+ * caches are partitioned per tenant (see CacheConfig) and every tenant has its
+ * own catalog version, so a write clears and invalidates only its own tenant's
+ * lists. Versions are drawn from one shared sequence and never repeat, across
+ * tenants or after a tenant's entry was dropped from memory.
+ * 
+ * Change events:
+ * Every successful write publishes a ProjectChangedEvent (after commit when
+ * inside a transaction), which keeps derived structures such as the search
+ * index up to date.
+ * 
+ * Metrics:
+ * @Timed records a "portfolio.service" timer for every data-access method
+ * (tags: class, method, exception).
  */
 @Service
 public class ProjectService {
 
+    /**
+     * Largest page a client may request with keyset pagination
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Fields a client may request with a sparse fieldset (?fields=id,title)
+     */
+    public static final List<String> SPARSE_FIELDS =
+            List.of("id", "title", "description", "techStack", "githubUrl", "liveDemoUrl",
+                    "githubStatus", "liveDemoStatus", "version");
+
+    private static final String METRIC_NAME = "portfolio.service";
+
     private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantIndexes tenantIndexes;
+    private final org.springframework.cache.Cache projectCache;
+
+    // Rows per flush in batch operations; matches hibernate.jdbc.batch_size
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchChunkSize;
+
+    @Value("${portfolio.batch.max-items:10000}")
+    private int batchMaxItems;
+
+    // Source of all catalog versions; starts at boot time so versions from a previous run are never reused
+    private final AtomicLong catalogVersions = new AtomicLong(System.currentTimeMillis());
+
+    // tenant id -> catalog version and last change of that tenant
+    private final Cache<String, Catalog> catalogs;
 
     /**
      * Constructor-based dependency injection
      * This is the recommended way to inject dependencies in Spring
      */
     @Autowired
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, EntityManager entityManager,
+                          Validator validator, ApplicationEventPublisher eventPublisher,
+                          TenantIndexes tenantIndexes, CacheManager cacheManager,
+                          @Value("${portfolio.tenant.max-tenants:1000}") long maxTenants) {
         this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.tenantIndexes = tenantIndexes;
+        this.projectCache = cacheManager.getCache(CacheConfig.PROJECT_CACHE);
+        this.catalogs = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .build();
+    }
+
+    /**
+     * Largest number of items accepted by one batch call
+     */
+    public int getBatchMaxItems() {
+        return batchMaxItems;
+    }
+
+    /**
+     * Current catalog version of the current tenant, changes after every create, update or delete
+     */
+    public long getCatalogVersion() {
+        return catalog(TenantContext.current()).version;
+    }
+
+    /**
+     * Time of the current tenant's last catalog change in epoch milliseconds
+     */
+    public long getCatalogLastModified() {
+        return catalog(TenantContext.current()).lastModified;
     }
 
     /**
      * Get all projects
-     * Converts Entity list to DTO list
+     * Selected straight into DTOs in a read-only transaction (no entity hydration)
      */
+    @Timed(METRIC_NAME)
+    @Cacheable(value = CacheConfig.PROJECT_LIST_CACHE, key = "'all:' + #root.target.catalogVersion")
+    @Coalesced(key = "#root.target.catalogVersion")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
     public List<ProjectDTO> getAllProjects() {
-        return projectRepository.findAll()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return projectRepository.findAllProjected(TenantContext.current());
+    }
+
+    /**
+     * Get all projects with only the requested fields (sparse fieldset)
+     * Only the requested columns are selected, e.g. no description for list views
+     * 
+     * @param fields Field names out of SPARSE_FIELDS
+     */
+    @Timed(METRIC_NAME)
+    @Cacheable(value = CacheConfig.PROJECT_LIST_CACHE,
+            key = "'fields:' + #root.target.catalogVersion + ':' + #fields")
+    @Coalesced(key = "#root.target.catalogVersion + ':' + #fields")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllProjectFields(List<String> fields) {
+        List<Map<String, Object>> rows = queryFields(fields, null, null);
+        if (!fields.contains("id")) {
+            rows.forEach(row -> row.remove("id"));
+        }
+        return rows;
+    }
+
+    /**
+     * Get one page of projects using keyset pagination on id
+     * Fetches one extra row to know whether a next page exists
+     * 
+     * @param after Cursor (last id of the previous page), or null for the first page
+     * @param limit Requested page size, clamped to 1..MAX_PAGE_SIZE
+     */
+    @Timed(METRIC_NAME)
+    @Cacheable(value = CacheConfig.PROJECT_LIST_CACHE, key = "'page:' + #root.target.catalogVersion + ':' + #after + ':' + #limit")
+    @Coalesced(key = "#root.target.catalogVersion + ':' + #after + ':' + #limit")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public ProjectPage<ProjectDTO> getProjectsPage(Long after, int limit) {
+        int pageSize = pageSize(limit);
+        List<ProjectDTO> rows = projectRepository.findProjectedAfter(
+                TenantContext.current(), after != null ? after : 0L, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, ProjectDTO::getId);
+    }
+
+    /**
+     * Get one page of projects with only the requested fields (sparse fieldset)
+     * 
+     * @param fields Field names out of SPARSE_FIELDS
+     */
+    @Timed(METRIC_NAME)
+    @Cacheable(value = CacheConfig.PROJECT_LIST_CACHE,
+            key = "'fieldsPage:' + #root.target.catalogVersion + ':' + #fields + ':' + #after + ':' + #limit")
+    @Coalesced(key = "#root.target.catalogVersion + ':' + #fields + ':' + #after + ':' + #limit")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public ProjectPage<Map<String, Object>> getProjectFieldsPage(List<String> fields, Long after, int limit) {
+        int pageSize = pageSize(limit);
+        List<Map<String, Object>> rows = queryFields(fields, after != null ? after : 0L, pageSize + 1);
+        ProjectPage<Map<String, Object>> page = toPage(rows, pageSize, row -> (Long) row.get("id"));
+        if (!fields.contains("id")) {
+            page.getItems().forEach(row -> row.remove("id"));
+        }
+        return page;
+    }
+
+    /**
+     * Stream all projects in id order to the given sink, one at a time
+     * Rows are selected straight into DTOs, so nothing accumulates in the persistence context
+     */
+    @Timed(METRIC_NAME)
+    @Transactional(readOnly = true)
+    public void streamAllProjects(Consumer<ProjectDTO> sink) {
+        try (Stream<ProjectDTO> projects = projectRepository.streamAllProjected(TenantContext.current())) {
+            projects.forEach(sink);
+        }
+    }
+
+    /**
+     * Get one page of project ids with their tenants, across all tenants, in id order
+     * For background jobs that look after every tenant (see LinkHealthScheduler);
+     * never exposed to clients
+     * 
+     * @param after Cursor (last id of the previous page), or null for the first page
+     * @param limit Requested page size, clamped to 1..MAX_PAGE_SIZE
+     */
+    @Timed(METRIC_NAME)
+    @Transactional(readOnly = true)
+    public ProjectPage<TenantProjectRef> getAllTenantsRefsPage(Long after, int limit) {
+        int pageSize = pageSize(limit);
+        List<TenantProjectRef> rows = projectRepository.findRefsAfter(
+                after != null ? after : 0L, PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, TenantProjectRef::getId);
+    }
+
+    /**
+     * Full-text search over title, description and techStack
+     * Answered from the in-memory search index, without touching the database
+     * 
+     * @param query Free text, every word must match (prefixes allowed)
+     * @param limit Maximum number of results, clamped to 1..MAX_PAGE_SIZE
+     */
+    @Timed(METRIC_NAME)
+    public List<SearchResult> searchProjects(String query, int limit) {
+        return tenantIndexes.search(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * Find projects by tech-stack tags
+     * Answered from the tag bitmaps, without touching the database
+     * 
+     * @param tags Tags to filter by (case and spacing do not matter)
+     * @param matchAll true: every tag must be used (AND); false: any tag (OR)
+     */
+    @Timed(METRIC_NAME)
+    public List<ProjectDTO> getProjectsByTech(List<String> tags, boolean matchAll) {
+        return tenantIndexes.findByTags(tags, matchAll);
+    }
+
+    /**
+     * Count projects per tech-stack tag, optionally within a tag filter
+     */
+    @Timed(METRIC_NAME)
+    public List<TechFacet> getTechFacets(List<String> filterTags, boolean matchAll) {
+        return tenantIndexes.facets(filterTags, matchAll);
     }
 
     /**
      * Get project by ID
      * Throws ResourceNotFoundException if not found
      */
+    @Timed(METRIC_NAME)
+    @Cacheable(value = CacheConfig.PROJECT_CACHE, key = "#id", sync = true)
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
     public ProjectDTO getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        return projectRepository.findProjectedById(id, TenantContext.current())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
-        return convertToDTO(project);
     }
 
     /**
      * Create new project
      * Converts DTO to Entity, saves, and returns DTO
      */
+    @Timed(METRIC_NAME)
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
     public ProjectDTO createProject(ProjectDTO projectDTO) {
         Project project = convertToEntity(projectDTO);
         Project savedProject = projectRepository.save(project);
-        return convertToDTO(savedProject);
+        ProjectDTO savedDTO = convertToDTO(savedProject);
+        catalogChanged(List.of());
+        publish(ProjectChangedEvent.Type.CREATED, savedDTO.getId(), savedDTO);
+        return savedDTO;
     }
 
     /**
      * Update existing project
      * Finds existing project, updates fields, saves, and returns DTO
      */
+    @Timed(METRIC_NAME)
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    @Transactional
     public ProjectDTO updateProject(Long id, ProjectDTO projectDTO) {
-        Project existingProject = projectRepository.findById(id)
+        return updateProject(id, projectDTO, null);
+    }
+
+    /**
+     * Update existing project if it is still at the expected version
+     * Throws PreconditionFailedException if the version does not match
+     * Read and write share one transaction, so the version is checked on the primary
+     * 
+     * @param expectedVersion Version the client last saw, or null to skip the check
+     */
+    @Timed(METRIC_NAME)
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    @Transactional
+    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO, Long expectedVersion) {
+        Project existingProject = projectRepository.findByIdAndTenantId(id, TenantContext.current())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        checkVersion(existingProject, expectedVersion);
 
         // Update fields
-        existingProject.setTitle(projectDTO.getTitle());
-        existingProject.setDescription(projectDTO.getDescription());
-        existingProject.setTechStack(projectDTO.getTechStack());
-        existingProject.setGithubUrl(projectDTO.getGithubUrl());
-        existingProject.setLiveDemoUrl(projectDTO.getLiveDemoUrl());
+        copyToEntity(projectDTO, existingProject);
+
+        // Flush so the returned DTO carries the incremented version
+        Project updatedProject = projectRepository.saveAndFlush(existingProject);
+        ProjectDTO updatedDTO = convertToDTO(updatedProject);
+        catalogChanged(List.of(id));
+        publish(ProjectChangedEvent.Type.UPDATED, id, updatedDTO);
+        return updatedDTO;
+    }
+
+    /**
+     * Store the results of a link check (see LinkHealthScheduler)
+     * A status is only stored while its URL is still the one that was checked, so
+     * a result that arrives after the URL was edited is dropped. Writes, and bumps
+     * the version, only if a status actually changes.
+     * 
+     * @param githubUrl URL the githubStatus belongs to
+     * @param liveDemoUrl URL the liveDemoStatus belongs to
+     */
+    @Timed(METRIC_NAME)
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    @Transactional
+    public ProjectDTO updateLinkStatus(Long id, String githubUrl, LinkStatus githubStatus,
+                                       String liveDemoUrl, LinkStatus liveDemoStatus) {
+        Project project = projectRepository.findByIdAndTenantId(id, TenantContext.current())
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        boolean changed = false;
+        if (Objects.equals(project.getGithubUrl(), githubUrl) && project.getGithubStatus() != githubStatus) {
+            project.setGithubStatus(githubStatus);
+            changed = true;
+        }
+        if (Objects.equals(project.getLiveDemoUrl(), liveDemoUrl) && project.getLiveDemoStatus() != liveDemoStatus) {
+            project.setLiveDemoStatus(liveDemoStatus);
+            changed = true;
+        }
+        if (!changed) {
+            return convertToDTO(project);
+        }
 
-        Project updatedProject = projectRepository.save(existingProject);
-        return convertToDTO(updatedProject);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        ProjectDTO updatedDTO = convertToDTO(updatedProject);
+        catalogChanged(List.of(id));
+        publish(ProjectChangedEvent.Type.UPDATED, id, updatedDTO);
+        return updatedDTO;
     }
 
     /**
      * Delete project by ID
      * Throws ResourceNotFoundException if not found
      */
+    @Timed(METRIC_NAME)
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    @Transactional
     public void deleteProject(Long id) {
-        Project project = projectRepository.findById(id)
+        deleteProject(id, null);
+    }
+
+    /**
+     * Delete project by ID if it is still at the expected version
+     * Throws PreconditionFailedException if the version does not match
+     * 
+     * @param expectedVersion Version the client last saw, or null to skip the check
+     */
+    @Timed(METRIC_NAME)
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    @Transactional
+    public void deleteProject(Long id, Long expectedVersion) {
+        Project project = projectRepository.findByIdAndTenantId(id, TenantContext.current())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        checkVersion(project, expectedVersion);
         projectRepository.delete(project);
+        catalogChanged(List.of(id));
+        publish(ProjectChangedEvent.Type.DELETED, id, null);
+    }
+
+    /**
+     * Create many projects in one transaction
+     * Valid items are inserted in JDBC batches of batchChunkSize rows;
+     * invalid items are reported with status 400 and skipped
+     */
+    @Timed(METRIC_NAME)
+    @Transactional
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    public BatchResponse createProjects(List<ProjectDTO> projectDTOs) {
+        checkBatchSize(projectDTOs);
+        BatchItemResult[] results = new BatchItemResult[projectDTOs.size()];
+
+        List<Project> chunk = new ArrayList<>(batchChunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(batchChunkSize);
+        for (int i = 0; i < projectDTOs.size(); i++) {
+            ProjectDTO dto = projectDTOs.get(i);
+            String violation = validate(dto);
+            if (violation != null) {
+                results[i] = new BatchItemResult(i, null, null, 400, violation);
+                continue;
+            }
+            chunk.add(convertToEntity(dto));
+            chunkIndexes.add(i);
+            if (chunk.size() == batchChunkSize) {
+                saveChunk(chunk, chunkIndexes, results);
+            }
+        }
+        saveChunk(chunk, chunkIndexes, results);
+
+        return finishBatch(results);
+    }
+
+    /**
+     * Update many projects in one transaction
+     * Each item must carry its id; if it also carries a version, the update only
+     * applies when the stored version matches (status 412 otherwise)
+     */
+    @Timed(METRIC_NAME)
+    @Transactional
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    public BatchResponse updateProjects(List<ProjectDTO> projectDTOs) {
+        checkBatchSize(projectDTOs);
+        BatchItemResult[] results = new BatchItemResult[projectDTOs.size()];
+
+        for (int start = 0; start < projectDTOs.size(); start += batchChunkSize) {
+            int end = Math.min(start + batchChunkSize, projectDTOs.size());
+            Map<Long, Project> existing = loadChunk(projectDTOs.subList(start, end).stream()
+                    .map(dto -> dto != null ? dto.getId() : null)
+                    .collect(Collectors.toList()));
+
+            Map<Integer, Project> updated = new HashMap<>();
+            for (int i = start; i < end; i++) {
+                ProjectDTO dto = projectDTOs.get(i);
+                String violation = validate(dto);
+                if (violation == null && dto.getId() == null) {
+                    violation = "Id is required";
+                }
+                if (violation != null) {
+                    results[i] = new BatchItemResult(i, dto != null ? dto.getId() : null, null, 400, violation);
+                    continue;
+                }
+                Project project = existing.get(dto.getId());
+                if (project == null) {
+                    results[i] = new BatchItemResult(i, dto.getId(), null, 404, "Project not found");
+                } else if (dto.getVersion() != null && !dto.getVersion().equals(project.getVersion())) {
+                    results[i] = new BatchItemResult(i, dto.getId(), project.getVersion(), 412,
+                            "Project has been modified");
+                } else {
+                    copyToEntity(dto, project);
+                    updated.put(i, project);
+                }
+            }
+
+            // Flush sends the UPDATEs as one JDBC batch and bumps the versions
+            entityManager.flush();
+            updated.forEach((i, project) -> {
+                results[i] = new BatchItemResult(i, project.getId(), project.getVersion(), 200, null);
+                publish(ProjectChangedEvent.Type.UPDATED, project.getId(), convertToDTO(project));
+            });
+            entityManager.clear();
+        }
+
+        return finishBatch(results);
+    }
+
+    /**
+     * Delete many projects in one transaction
+     * Each chunk of existing ids is removed with a single DELETE ... WHERE id IN statement
+     */
+    @Timed(METRIC_NAME)
+    @Transactional
+    @CacheEvict(value = CacheConfig.PROJECT_LIST_CACHE, allEntries = true)
+    public BatchResponse deleteProjects(List<Long> ids) {
+        checkBatchSize(ids);
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+
+        for (int start = 0; start < ids.size(); start += batchChunkSize) {
+            int end = Math.min(start + batchChunkSize, ids.size());
+            Set<Long> existing = loadChunk(ids.subList(start, end)).keySet();
+
+            for (int i = start; i < end; i++) {
+                Long id = ids.get(i);
+                if (id == null) {
+                    results[i] = new BatchItemResult(i, null, null, 400, "Id is required");
+                } else if (!existing.contains(id)) {
+                    results[i] = new BatchItemResult(i, id, null, 404, "Project not found");
+                } else {
+                    results[i] = new BatchItemResult(i, id, null, 204, null);
+                    publish(ProjectChangedEvent.Type.DELETED, id, null);
+                }
+            }
+            if (!existing.isEmpty()) {
+                projectRepository.deleteAllByIdInBatch(existing);
+            }
+            entityManager.clear();
+        }
+
+        return finishBatch(results);
+    }
+
+    /**
+     * Helper method: Insert one chunk of new projects and record their ids
+     */
+    private void saveChunk(List<Project> chunk, List<Integer> chunkIndexes, BatchItemResult[] results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        projectRepository.saveAll(chunk);
+        entityManager.flush();
+        for (int j = 0; j < chunk.size(); j++) {
+            int index = chunkIndexes.get(j);
+            Project saved = chunk.get(j);
+            results[index] = new BatchItemResult(index, saved.getId(), saved.getVersion(), 201, null);
+            publish(ProjectChangedEvent.Type.CREATED, saved.getId(), convertToDTO(saved));
+        }
+        entityManager.clear();
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    /**
+     * Helper method: Load the projects of one chunk with a single IN query
+     */
+    private Map<Long, Project> loadChunk(List<Long> ids) {
+        List<Long> presentIds = ids.stream()
+                .filter(id -> id != null)
+                .distinct()
+                .collect(Collectors.toList());
+        return projectRepository.findAllByTenantIdAndIdIn(TenantContext.current(), presentIds)
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+    }
+
+    /**
+     * Helper method: Validate one batch item with the same constraints as @Valid
+     * 
+     * @return First violation message, or null if the item is valid
+     */
+    private String validate(ProjectDTO dto) {
+        if (dto == null) {
+            return "Item is required";
+        }
+        Set<ConstraintViolation<ProjectDTO>> violations = validator.validate(dto);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > batchMaxItems) {
+            throw new IllegalArgumentException(
+                    "Batch must not contain more than " + batchMaxItems + " items");
+        }
+    }
+
+    /**
+     * Helper method: Build the response; evict the projects written by the batch after commit
+     */
+    private BatchResponse finishBatch(BatchItemResult[] results) {
+        BatchResponse response = BatchResponse.of(List.of(results));
+        if (response.getSucceeded() > 0) {
+            catalogChanged(Stream.of(results)
+                    .filter(result -> result.getStatus() < 300)
+                    .map(BatchItemResult::getId)
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    /**
+     * Helper method: Select only the given fields, in id order
+     * The id is always selected (needed as page cursor) and removed by the caller if unwanted
+     * 
+     * @param after Only rows with a greater id, or null for all rows
+     * @param maxResults Row limit, or null for no limit
+     */
+    private List<Map<String, Object>> queryFields(List<String> fields, Long after, Integer maxResults) {
+        List<String> selected = new ArrayList<>();
+        for (String field : fields) {
+            if (!SPARSE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "', allowed: " + SPARSE_FIELDS);
+            }
+            if (!selected.contains(field)) {
+                selected.add(field);
+            }
+        }
+        if (!selected.contains("id")) {
+            selected.add("id");
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Project> project = query.from(Project.class);
+        query.multiselect(selected.stream()
+                .map(field -> project.get(field).alias(field))
+                .collect(Collectors.toList()));
+        Predicate tenant = cb.equal(project.get("tenantId"), TenantContext.current());
+        query.where(after != null ? cb.and(tenant, cb.greaterThan(project.get("id"), after)) : tenant);
+        query.orderBy(cb.asc(project.get("id")));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (maxResults != null) {
+            typedQuery.setMaxResults(maxResults);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Helper method: Turn pageSize + 1 rows into a page with the next cursor
+     */
+    private static <T> ProjectPage<T> toPage(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        Long nextCursor = hasMore ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new ProjectPage<>(items, nextCursor, pageSize);
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Helper method: Reject the write if the client's version is out of date
+     */
+    private void checkVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new PreconditionFailedException("Project", project.getId(), project.getVersion());
+        }
+    }
+
+    /**
+     * Helper method: Record a catalog change of the current tenant (new collection ETag)
+     * and evict the changed projects from the single-project cache
+     * Inside a transaction both happen only after commit, so a reader never sees
+     * the new version together with the old data, and never reloads the old row
+     * 
+     * @param changedIds Ids of updated or deleted projects
+     */
+    private void catalogChanged(List<Long> changedIds) {
+        String tenantId = TenantContext.current();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpCatalogVersion(tenantId);
+                    changedIds.forEach(projectCache::evict);
+                }
+            });
+        } else {
+            bumpCatalogVersion(tenantId);
+            changedIds.forEach(projectCache::evict);
+        }
+    }
+
+    /**
+     * Helper method: Publish a change event (delivered after commit inside a transaction)
+     */
+    private void publish(ProjectChangedEvent.Type type, Long id, ProjectDTO project) {
+        eventPublisher.publishEvent(new ProjectChangedEvent(type, id, project, TenantContext.current()));
+    }
+
+    private void bumpCatalogVersion(String tenantId) {
+        Catalog catalog = catalog(tenantId);
+        catalog.lastModified = System.currentTimeMillis();
+        catalog.version = catalogVersions.incrementAndGet();
+    }
+
+    /**
+     * Helper method: Catalog state of a tenant; a tenant seen for the first time
+     * (or again after being dropped) starts at a fresh version
+     */
+    private Catalog catalog(String tenantId) {
+        return catalogs.get(tenantId, key -> new Catalog(catalogVersions.incrementAndGet()));
     }
 
     /**
      * Helper method: Convert Entity to DTO
      * This demonstrates the DTO pattern - separating internal representation from API
+     * Package-private so the JMH benchmarks can measure it
      */
-    private ProjectDTO convertToDTO(Project project) {
+    ProjectDTO convertToDTO(Project project) {
         return new ProjectDTO(
             project.getId(),
             project.getTitle(),
             project.getDescription(),
             project.getTechStack(),
             project.getGithubUrl(),
-            project.getLiveDemoUrl()
+            project.getLiveDemoUrl(),
+            project.getGithubStatus(),
+            project.getLiveDemoStatus(),
+            project.getVersion()
         );
     }
 
     /**
      * Helper method: Convert DTO to Entity
+     * Package-private so the JMH benchmarks can measure it
      */
-    private Project convertToEntity(ProjectDTO dto) {
+    Project convertToEntity(ProjectDTO dto) {
         Project project = new Project();
+        project.setTenantId(TenantContext.current());
+        copyToEntity(dto, project);
+        return project;
+    }
+
+    /**
+     * Helper method: Copy the editable DTO fields onto an entity
+     * id, version and link statuses are managed by the server and never copied;
+     * a changed URL resets its status until the next check
+     */
+    private void copyToEntity(ProjectDTO dto, Project project) {
         project.setTitle(dto.getTitle());
         project.setDescription(dto.getDescription());
         project.setTechStack(dto.getTechStack());
-        project.setGithubUrl(dto.getGithubUrl());
-        project.setLiveDemoUrl(dto.getLiveDemoUrl());
-        return project;
+        if (!Objects.equals(project.getGithubUrl(), dto.getGithubUrl())) {
+            project.setGithubUrl(dto.getGithubUrl());
+            project.setGithubStatus(LinkStatus.UNKNOWN);
+        }
+        if (!Objects.equals(project.getLiveDemoUrl(), dto.getLiveDemoUrl())) {
+            project.setLiveDemoUrl(dto.getLiveDemoUrl());
+            project.setLiveDemoStatus(LinkStatus.UNKNOWN);
+        }
+    }
+
+    /**
+     * Catalog version and last change time of one tenant
+     */
+    private static final class Catalog {
+
+        private volatile long version;
+        private volatile long lastModified = System.currentTimeMillis();
+
+        Catalog(long version) {
+            this.version = version;
+        }
     }
 }
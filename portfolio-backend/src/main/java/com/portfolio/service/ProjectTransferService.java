@@ -0,0 +1,300 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.portfolio.dto.BatchItemResult;
+import com.portfolio.dto.BatchResponse;
+import com.portfolio.dto.ImportResult;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.exception.ImportInProgressException;
+import com.portfolio.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Project Transfer Service
+ *
+ * Bulk export and import of projects as NDJSON (one JSON object per line) or
+ * CSV (with header row), for backups and migrations.
+ *
+ * This class demonstrates:
+ * - Streaming: both directions run in constant memory, however many rows
+ * - Batching: imports are written in transactions of portfolio.import.batch-size records
+ * - Checkpointing: every batch commits together with the import's progress
+ *
+ * Export reads through the forward-only cursor of ProjectService.streamAllProjects.
+ *
+ * Import parses one record at a time, validates it with the ProjectDTO constraints
+ * and hands full batches to ProjectService.createProjects. id, version and link
+ * statuses are ignored, the projects get new ids. Rejected records are counted
+ * and reported, they do not stop the import. A failure (malformed input,
+ * database error) rolls back the current batch only; importing the same file
+ * again with the same importId skips the records committed before and
+ * continues from there. Import ids are scoped to the tenant.
+ *
+ * Two requests may run the same importId at once (a client retrying while the
+ * first request still runs). The checkpoint only advances from the position
+ * the batch started at; a request that finds it moved on rolls its batch back
+ * and fails with ImportInProgressException (409), so no record is imported twice.
+ */
+@Service
+public class ProjectTransferService {
+
+    /**
+     * Supported bulk formats
+     */
+    public enum Format {
+        NDJSON(new MediaType("application", "x-ndjson")),
+        CSV(new MediaType("text", "csv"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    // Rejected records listed in one ImportResult; the rest are only counted
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("title")
+            .addColumn("description")
+            .addColumn("techStack")
+            .addColumn("githubUrl")
+            .addColumn("liveDemoUrl")
+            .addColumn("githubStatus")
+            .addColumn("liveDemoStatus")
+            .addColumn("version")
+            .build()
+            .withHeader();
+
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${portfolio.import.batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    public ProjectTransferService(ProjectService projectService, ObjectMapper objectMapper,
+                                  JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Write all projects in id order
+     */
+    public void exportProjects(Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            try (SequenceWriter writer = csvMapper.writer(CSV_SCHEMA).writeValues(out)) {
+                projectService.streamAllProjects(project -> {
+                    try {
+                        writer.write(project);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            return;
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // No " " between root values: every line must start with the object itself
+            generator.setRootValueSeparator(null);
+            projectService.streamAllProjects(project -> {
+                try {
+                    generator.writeObject(project);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Import projects, or resume an earlier import of the same input
+     *
+     * @param importId Id of the import to resume, or null to start a new one
+     */
+    public ImportResult importProjects(Format format, InputStream in, String importId) throws IOException {
+        String id = importId != null ? importId : UUID.randomUUID().toString();
+        if (id.isBlank() || id.length() > 255) {
+            throw new IllegalArgumentException("importId must be between 1 and 255 characters");
+        }
+        // Stored as "{tenant}:{importId}" (import_checkpoints.import_id VARCHAR(320))
+        String checkpointId = TenantContext.current() + ":" + id;
+        Checkpoint checkpoint = loadCheckpoint(checkpointId);
+        long resumedAfter = checkpoint.recordsDone;
+        List<BatchItemResult> errors = new ArrayList<>();
+        if (checkpoint.completed) {
+            return checkpoint.toResult(id, resumedAfter, errors);
+        }
+
+        int chunkSize = Math.max(1, Math.min(batchSize, projectService.getBatchMaxItems()));
+        List<ProjectDTO> chunk = new ArrayList<>(chunkSize);
+        long record = 0;
+        try (MappingIterator<ProjectDTO> records = reader(format).readValues(in)) {
+            while (records.hasNextValue()) {
+                ProjectDTO project = records.nextValue();
+                record++;
+                if (record <= resumedAfter) {
+                    continue;
+                }
+                chunk.add(project);
+                if (chunk.size() == chunkSize) {
+                    commitChunk(id, checkpointId, checkpoint, chunk, errors);
+                }
+            }
+        } catch (IOException | RuntimeJsonMappingException e) {
+            // Keep what parsed cleanly, so a resume starts right at the bad record
+            commitChunk(id, checkpointId, checkpoint, chunk, errors);
+            throw new IllegalArgumentException("Malformed record " + (record + 1) + " in import '" + id
+                    + "' (" + checkpoint.recordsDone + " records committed, resume with importId): "
+                    + parseError(e), e);
+        }
+        commitChunk(id, checkpointId, checkpoint, chunk, errors);
+
+        int updated = jdbcTemplate.update("UPDATE import_checkpoints SET completed = TRUE, updated_at = ?"
+                        + " WHERE import_id = ? AND records_done = ?",
+                Timestamp.from(Instant.now()), checkpointId, checkpoint.recordsDone);
+        if (updated == 0) {
+            throw new ImportInProgressException(id);
+        }
+        checkpoint.completed = true;
+        return checkpoint.toResult(id, resumedAfter, errors);
+    }
+
+    /**
+     * Helper method: Insert one batch and advance the checkpoint in the same transaction
+     * The checkpoint only advances if no other request moved it since this one read it;
+     * otherwise the batch is rolled back and ImportInProgressException is thrown
+     */
+    private void commitChunk(String importId, String checkpointId, Checkpoint checkpoint,
+                             List<ProjectDTO> chunk, List<BatchItemResult> errors) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        long firstRecord = checkpoint.recordsDone + 1;
+        BatchResponse response = transactionTemplate.execute(status -> {
+            BatchResponse batch = projectService.createProjects(chunk);
+            int updated = jdbcTemplate.update("UPDATE import_checkpoints SET records_done = ?, imported = ?,"
+                            + " failed = ?, updated_at = ? WHERE import_id = ? AND records_done = ?",
+                    checkpoint.recordsDone + chunk.size(),
+                    checkpoint.imported + batch.getSucceeded(),
+                    checkpoint.failed + batch.getFailed(),
+                    Timestamp.from(Instant.now()), checkpointId, checkpoint.recordsDone);
+            if (updated == 0) {
+                // Runtime exception: the template rolls the inserted batch back
+                throw new ImportInProgressException(importId);
+            }
+            return batch;
+        });
+
+        checkpoint.recordsDone += chunk.size();
+        checkpoint.imported += response.getSucceeded();
+        checkpoint.failed += response.getFailed();
+        for (BatchItemResult result : response.getResults()) {
+            if (result.getStatus() >= 300 && errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BatchItemResult((int) (firstRecord + result.getIndex()), null, null,
+                        result.getStatus(), result.getMessage()));
+            }
+        }
+        chunk.clear();
+    }
+
+    private Checkpoint loadCheckpoint(String checkpointId) {
+        List<Checkpoint> rows = jdbcTemplate.query(
+                "SELECT records_done, imported, failed, completed FROM import_checkpoints WHERE import_id = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getLong("records_done"), rs.getLong("imported"),
+                        rs.getLong("failed"), rs.getBoolean("completed")),
+                checkpointId);
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO import_checkpoints (import_id, updated_at) VALUES (?, ?)",
+                    checkpointId, Timestamp.from(Instant.now()));
+        } catch (DuplicateKeyException e) {
+            // Another request with the same importId started at the same time: share its checkpoint
+            return loadCheckpoint(checkpointId);
+        }
+        return new Checkpoint(0, 0, 0, false);
+    }
+
+    /**
+     * Helper method: Parser message without the source description (the request stream)
+     */
+    private static String parseError(Exception e) {
+        Throwable cause = e instanceof RuntimeJsonMappingException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof JsonProcessingException parse ? parse.getOriginalMessage() : cause.getMessage();
+    }
+
+    private ObjectReader reader(Format format) {
+        if (format == Format.CSV) {
+            return csvMapper.readerFor(ProjectDTO.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .with(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+        return objectMapper.readerFor(ProjectDTO.class);
+    }
+
+    /**
+     * Committed progress of one import
+     */
+    private static class Checkpoint {
+
+        private long recordsDone;
+        private long imported;
+        private long failed;
+        private boolean completed;
+
+        Checkpoint(long recordsDone, long imported, long failed, boolean completed) {
+            this.recordsDone = recordsDone;
+            this.imported = imported;
+            this.failed = failed;
+            this.completed = completed;
+        }
+
+        ImportResult toResult(String importId, long resumedAfter, List<BatchItemResult> errors) {
+            return new ImportResult(importId, resumedAfter, recordsDone, imported, failed, completed, errors);
+        }
+    }
+}
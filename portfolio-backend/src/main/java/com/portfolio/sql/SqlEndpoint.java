@@ -0,0 +1,61 @@
+package com.portfolio.sql;
+
+import com.portfolio.dto.SqlSettings;
+import com.portfolio.dto.SqlStatementStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL Observability Endpoint
+ * 
+ * Actuator endpoint "sql", so it is only reachable where management endpoints
+ * are exposed (management.endpoints.web.exposure.include, ideally on a separate
+ * management.server.port), never on the public /api path.
+ * 
+ * Operations:
+ * - GET    /actuator/sql - Current settings and the statement shapes with the highest total time
+ * - POST   /actuator/sql - Change settings at runtime; only the given fields change
+ * - DELETE /actuator/sql - Reset the aggregated statistics
+ */
+@Component
+@Endpoint(id = "sql")
+public class SqlEndpoint {
+
+    private final SqlStatementRecorder recorder;
+
+    @Autowired
+    public SqlEndpoint(SqlStatementRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> sql(@Nullable Integer limit) {
+        List<SqlStatementStats> statements = recorder.topStatements(limit != null ? limit : 50);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("settings", recorder.getSettings());
+        result.put("statements", statements);
+        return result;
+    }
+
+    @WriteOperation
+    public SqlSettings updateSettings(@Nullable Boolean enabled, @Nullable Long slowThresholdMillis,
+                                      @Nullable Double sampleRate, @Nullable Integer requestStatementThreshold) {
+        // Out-of-range values: IllegalArgumentException, answered with 400 (see GlobalExceptionHandler)
+        recorder.updateSettings(new SqlSettings(enabled, slowThresholdMillis, sampleRate, requestStatementThreshold));
+        return recorder.getSettings();
+    }
+
+    @DeleteOperation
+    public void resetStats() {
+        recorder.reset();
+    }
+}
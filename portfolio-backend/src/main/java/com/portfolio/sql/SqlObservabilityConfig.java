@@ -0,0 +1,61 @@
+package com.portfolio.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL Observability Configuration
+ * 
+ * - Wraps the application DataSource in a SqlObservingDataSource
+ * - Registers an interceptor that counts statements per API request for
+ *   N+1 detection
+ */
+@Configuration
+public class SqlObservabilityConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlObservingDataSourcePostProcessor(
+            ObjectProvider<SqlStatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlObservingDataSource)) {
+                    return new SqlObservingDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlRequestInterceptorConfigurer(SqlStatementRecorder recorder) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                                             Object handler) {
+                        recorder.beginRequest(request.getMethod() + " " + request.getRequestURI());
+                        return true;
+                    }
+
+                    @Override
+                    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                                Object handler, Exception ex) {
+                        recorder.endRequest();
+                    }
+                }).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
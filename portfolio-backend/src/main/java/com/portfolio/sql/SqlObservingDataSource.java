@@ -0,0 +1,97 @@
+package com.portfolio.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL Observing DataSource
+ * 
+ * Wraps connections and statements in dynamic proxies that time every
+ * execute* call and report it to the SqlStatementRecorder.
+ * 
+ * When recording is switched off, getConnection() returns the plain pooled
+ * connection, so the only cost left is one volatile read per connection.
+ */
+public class SqlObservingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementRecorder recorder;
+
+    public SqlObservingDataSource(DataSource targetDataSource, SqlStatementRecorder recorder) {
+        super(targetDataSource);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return recorder.isEnabled() ? observed(connection) : connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return recorder.isEnabled() ? observed(connection) : connection;
+    }
+
+    private Connection observed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof CallableStatement statement) {
+                        return observed(statement, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement statement) {
+                        return observed(statement, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement) {
+                        return observed(statement, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Helper method: Proxy a statement so that execute* calls are timed
+     * 
+     * @param preparedSql SQL given at prepare time, or null for plain statements
+     */
+    private <T extends Statement> T observed(T statement, Class<T> type, String preparedSql) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                    long start = System.nanoTime();
+                    boolean failed = true;
+                    try {
+                        Object result = invoke(statement, method, args);
+                        failed = false;
+                        return result;
+                    } finally {
+                        recorder.record(sql != null ? sql : "(batch)", System.nanoTime() - start, failed);
+                    }
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
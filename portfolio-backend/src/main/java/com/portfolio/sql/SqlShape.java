@@ -0,0 +1,34 @@
+package com.portfolio.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL statement shape
+ * 
+ * Reduces a statement to its shape by replacing literals with '?', collapsing
+ * IN lists and whitespace, so that "where id=1" and "where id = 2" are
+ * aggregated together.
+ */
+final class SqlShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAX_LENGTH = 500;
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) : shape;
+    }
+}
@@ -0,0 +1,220 @@
+package com.portfolio.sql;
+
+import com.portfolio.dto.SqlSettings;
+import com.portfolio.dto.SqlStatementStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * SQL Statement Recorder
+ * 
+ * Receives every JDBC statement execution from SqlObservingDataSource and
+ * replaces spring.jpa.show-sql with cheaper, structured output:
+ * - Slow-query log: statements above a threshold, logged as key=value pairs
+ * - Sampled log: a configurable fraction of all statements
+ * - Aggregation per statement shape: count, total and max time
+ * - N+1 detection: requests issuing more than K statements are flagged
+ * 
+ * All settings can be changed at runtime (see SqlEndpoint).
+ */
+@Component
+public class SqlStatementRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger("portfolio.sql");
+
+    // Bound on distinct shapes so generated SQL cannot grow the map forever
+    private static final int MAX_SHAPES = 1000;
+    private static final String OTHER_SHAPE = "(other)";
+
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestStatements> currentRequest = new ThreadLocal<>();
+    private final Counter slowQueries;
+    private final Counter nPlusOneRequests;
+
+    private volatile SqlSettings settings;
+
+    @Autowired
+    public SqlStatementRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${portfolio.sql.enabled:true}") boolean enabled,
+            @Value("${portfolio.sql.slow-threshold-ms:200}") long slowThresholdMillis,
+            @Value("${portfolio.sql.sample-rate:0.0}") double sampleRate,
+            @Value("${portfolio.sql.request-statement-threshold:20}") int requestStatementThreshold) {
+        this.settings = new SqlSettings(enabled, slowThresholdMillis, sampleRate, requestStatementThreshold);
+        this.slowQueries = Counter.builder("portfolio.sql.slow")
+                .description("Statements slower than the slow-query threshold")
+                .register(meterRegistry);
+        this.nPlusOneRequests = Counter.builder("portfolio.sql.n_plus_one")
+                .description("Requests that issued more statements than the N+1 threshold")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return settings.getEnabled();
+    }
+
+    /**
+     * Record one statement execution
+     */
+    public void record(String sql, long durationNanos, boolean failed) {
+        SqlSettings current = settings;
+        String shape = SqlShape.of(sql);
+
+        shapeStats(shape).add(durationNanos);
+
+        RequestStatements request = currentRequest.get();
+        if (request != null) {
+            request.add(shape);
+        }
+
+        long durationMillis = durationNanos / 1_000_000;
+        if (durationMillis >= current.getSlowThresholdMillis()) {
+            slowQueries.increment();
+            log.warn("sql_slow duration_ms={} failed={} request=\"{}\" shape=\"{}\"",
+                    durationMillis, failed, request != null ? request.name : "", shape);
+        } else if (current.getSampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < current.getSampleRate()) {
+            log.info("sql_sample duration_ms={} failed={} request=\"{}\" shape=\"{}\"",
+                    durationMillis, failed, request != null ? request.name : "", shape);
+        }
+    }
+
+    /**
+     * Start counting the statements of the request running on this thread
+     */
+    public void beginRequest(String name) {
+        if (isEnabled() && settings.getRequestStatementThreshold() > 0) {
+            currentRequest.set(new RequestStatements(name));
+        }
+    }
+
+    /**
+     * Stop counting and flag the request if it issued too many statements
+     */
+    public void endRequest() {
+        RequestStatements request = currentRequest.get();
+        currentRequest.remove();
+        int threshold = settings.getRequestStatementThreshold();
+        if (request == null || threshold <= 0 || request.count <= threshold) {
+            return;
+        }
+
+        Map.Entry<String, Integer> top = request.perShape.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(Map.entry("", 0));
+        nPlusOneRequests.increment();
+        log.warn("sql_n_plus_one request=\"{}\" statements={} threshold={} top_count={} top_shape=\"{}\"",
+                request.name, request.count, threshold, top.getValue(), top.getKey());
+    }
+
+    /**
+     * Statement shapes with the highest total time first
+     */
+    public List<SqlStatementStats> topStatements(int limit) {
+        return shapes.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SqlStatementStats::getTotalMillis).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    public SqlSettings getSettings() {
+        SqlSettings current = settings;
+        return new SqlSettings(current.getEnabled(), current.getSlowThresholdMillis(),
+                current.getSampleRate(), current.getRequestStatementThreshold());
+    }
+
+    /**
+     * Change the settings; takes effect for the next statement
+     * Null fields keep their current value, so a partial update changes only what it names
+     */
+    public synchronized void updateSettings(SqlSettings changes) {
+        SqlSettings current = settings;
+        SqlSettings merged = new SqlSettings(
+                changes.getEnabled() != null ? changes.getEnabled() : current.getEnabled(),
+                changes.getSlowThresholdMillis() != null
+                        ? changes.getSlowThresholdMillis() : current.getSlowThresholdMillis(),
+                changes.getSampleRate() != null ? changes.getSampleRate() : current.getSampleRate(),
+                changes.getRequestStatementThreshold() != null
+                        ? changes.getRequestStatementThreshold() : current.getRequestStatementThreshold());
+        if (merged.getSlowThresholdMillis() < 0
+                || merged.getSampleRate() < 0 || merged.getSampleRate() > 1
+                || merged.getRequestStatementThreshold() < 0) {
+            throw new IllegalArgumentException(
+                    "slowThresholdMillis and requestStatementThreshold must be >= 0, sampleRate in [0, 1]");
+        }
+        settings = merged;
+    }
+
+    private ShapeStats shapeStats(String shape) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= MAX_SHAPES) {
+            return shapes.computeIfAbsent(OTHER_SHAPE, k -> new ShapeStats());
+        }
+        return shapes.computeIfAbsent(shape, k -> new ShapeStats());
+    }
+
+    /**
+     * Lock-free aggregate of one statement shape
+     */
+    private static final class ShapeStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        SqlStatementStats toStats(String shape) {
+            long executions = count.sum();
+            double totalMillis = totalNanos.sum() / 1_000_000.0;
+            return new SqlStatementStats(shape, executions, totalMillis, maxNanos.get() / 1_000_000.0,
+                    executions > 0 ? totalMillis / executions : 0);
+        }
+    }
+
+    /**
+     * Statements issued by one request (only touched by the request thread)
+     */
+    private static final class RequestStatements {
+
+        private final String name;
+        private final Map<String, Integer> perShape = new HashMap<>();
+        private int count;
+
+        RequestStatements(String name) {
+            this.name = name;
+        }
+
+        void add(String shape) {
+            count++;
+            perShape.merge(shape, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.portfolio.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup Timer
+ *
+ * Breaks the time from JVM start to the first answered request down by phase,
+ * so a time-to-first-request budget can be held (portfolio.startup.budget).
+ *
+ * This class demonstrates:
+ * - Design Pattern: Observer Pattern (SpringApplication lifecycle events mark the phases)
+ *
+ * Phases, in milliseconds:
+ * - jvm: JVM start until SpringApplication.run (JVM boot, loading the main class)
+ * - environment: property sources and profiles
+ * - context: creating the application context, loading the primary sources
+ * - refresh: component scan, bean creation (Flyway, Hibernate, ...), web server start
+ * - ready: runners and ApplicationStartedEvent / ApplicationReadyEvent listeners
+ * - first_request: from ready until the first request was answered, 0 if it was
+ *   answered before. Includes waiting for it and the DispatcherServlet setup on
+ *   first use; processing is the time spent in the handler (e.g. creating lazy beans)
+ *
+ * Logged as key=value pairs once the application is ready and again, complete,
+ * once the first request has been answered too:
+ * startup_report jvm=... environment=... context=... refresh=... ready=... first_request=... processing=...
+ *   time_to_first_request=... budget=... aot=... lazy=... cds=...
+ *
+ * The phases are also published as portfolio.startup.phase{phase} gauges.
+ *
+ * Registered in PortfolioApplication.main, since the first events are sent before
+ * any bean exists.
+ */
+public class StartupTimer implements ApplicationListener<ApplicationEvent>, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimer.class);
+
+    private final RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+
+    private long startingMillis;
+    private long environmentMillis;
+    private long preparedMillis;
+    private long refreshedMillis;
+    private long readyMillis;
+    private long firstRequestMillis;
+    private long firstRequestProcessing;
+    private ConfigurableApplicationContext context;
+    private volatile boolean reported;
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ServletRequestHandledEvent request) {
+            if (!reported) {
+                firstRequest(request);
+            }
+        } else if (event instanceof ApplicationStartingEvent) {
+            startingMillis = System.currentTimeMillis();
+        } else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+            environmentMillis = System.currentTimeMillis();
+        } else if (event instanceof ApplicationPreparedEvent prepared) {
+            preparedMillis = System.currentTimeMillis();
+            context = prepared.getApplicationContext();
+        } else if (event instanceof ContextRefreshedEvent refreshed && refreshed.getApplicationContext() == context) {
+            refreshedMillis = System.currentTimeMillis();
+        } else if (event instanceof ApplicationReadyEvent) {
+            ready();
+        }
+    }
+
+    /**
+     * Run after the application's own ready listeners, so "ready" includes them
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private synchronized void ready() {
+        readyMillis = System.currentTimeMillis();
+        log.info("startup_ready {} time_to_ready={}", format(phases()), readyMillis - runtime.getStartTime());
+        if (firstRequestMillis > 0) {
+            report();
+        }
+    }
+
+    /**
+     * The web server accepts requests before the application is ready, so the
+     * first request may also be answered before the ready phase ends
+     */
+    private synchronized void firstRequest(ServletRequestHandledEvent request) {
+        if (firstRequestMillis > 0) {
+            return;
+        }
+        firstRequestMillis = System.currentTimeMillis();
+        firstRequestProcessing = request.getProcessingTimeMillis();
+        if (readyMillis > 0) {
+            report();
+        }
+    }
+
+    private void report() {
+        reported = true;
+        Map<String, Long> phases = phases();
+        phases.put("first_request", Math.max(0, firstRequestMillis - readyMillis));
+        long timeToFirstRequest = Math.max(firstRequestMillis, readyMillis) - runtime.getStartTime();
+
+        Duration budget = context.getEnvironment().getProperty("portfolio.startup.budget", Duration.class);
+        String line = format(phases) + " processing=" + firstRequestProcessing
+                + " time_to_first_request=" + timeToFirstRequest
+                + " budget=" + (budget != null ? budget.toMillis() : "none")
+                + " aot=" + AotDetector.useGeneratedArtifacts()
+                + " lazy=" + context.getEnvironment().getProperty("spring.main.lazy-initialization", "false")
+                + " cds=" + runtime.getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        if (budget != null && timeToFirstRequest > budget.toMillis()) {
+            log.warn("startup_report {} over_budget=true", line);
+        } else {
+            log.info("startup_report {}", line);
+        }
+
+        MeterRegistry meterRegistry = context.getBeanProvider(MeterRegistry.class).getIfAvailable();
+        if (meterRegistry != null) {
+            phases.put("time_to_first_request", timeToFirstRequest);
+            phases.forEach((phase, millis) -> TimeGauge.builder("portfolio.startup.phase",
+                            () -> millis, TimeUnit.MILLISECONDS)
+                    .description("Startup time by phase, see StartupTimer")
+                    .tag("phase", phase)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Helper method: Durations of the phases completed so far
+     */
+    private Map<String, Long> phases() {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        phases.put("jvm", startingMillis - runtime.getStartTime());
+        phases.put("environment", environmentMillis - startingMillis);
+        phases.put("context", preparedMillis - environmentMillis);
+        phases.put("refresh", refreshedMillis - preparedMillis);
+        phases.put("ready", readyMillis - refreshedMillis);
+        return phases;
+    }
+
+    private static String format(Map<String, Long> phases) {
+        StringBuilder line = new StringBuilder();
+        phases.forEach((phase, millis) -> {
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(phase).append('=').append(millis);
+        });
+        return line.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.tenant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Tenant Configuration
+ *
+ * Puts the TenantResolver in front of ProjectController (/api/projects/**).
+ *
+ * Settings (portfolio.tenant.*):
+ * - header: request header carrying the tenant id (default X-Tenant-ID)
+ * - required: reject requests without it instead of using the default tenant
+ * - max-concurrent-requests: per-tenant in-flight limit, 0 = unlimited; not a
+ *   security boundary, tenant ids are not authenticated (see TenantResolver)
+ * - max-tenants: tenants with their own caches, counters and indexes in memory;
+ *   the least recently used beyond it are dropped and rebuilt on demand
+ */
+@Configuration
+public class TenantConfig {
+
+    @Bean
+    public TenantResolver tenantResolver(MeterRegistry meterRegistry,
+                                         @Value("${portfolio.tenant.header:X-Tenant-ID}") String header,
+                                         @Value("${portfolio.tenant.required:false}") boolean required,
+                                         @Value("${portfolio.tenant.max-concurrent-requests:50}") int maxConcurrentRequests) {
+        return new TenantResolver(header, required, maxConcurrentRequests, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer tenantResolverConfigurer(TenantResolver tenantResolver) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(tenantResolver).addPathPatterns("/api/projects", "/api/projects/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.portfolio.tenant;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant Context
+ *
+ * The tenant the current thread works for. Every project query, cache and
+ * counter is scoped to it (see TenantResolver for how requests get one).
+ *
+ * This class demonstrates:
+ * - Design Pattern: Context Object (thread-bound, like ReadWriteRoutingDataSource.bindClient)
+ *
+ * Threads without a bound tenant (startup, tests, single-tenant deployments)
+ * work for DEFAULT_TENANT. Work handed to another thread must carry the tenant
+ * over explicitly with runAs / callAs.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    // Lower-case letters, digits, '-' and '_'; stored in projects.tenant_id VARCHAR(64)
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9][a-z0-9_-]{0,63}");
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Tenant of the current thread, DEFAULT_TENANT if none is bound
+     */
+    public static String current() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    /**
+     * Bind a tenant to the current thread until clear()
+     *
+     * @throws IllegalArgumentException if the tenant id is malformed
+     */
+    public static void bind(String tenantId) {
+        CURRENT.set(validate(tenantId));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run a task for the given tenant, then restore the previous binding
+     */
+    public static void runAs(String tenantId, Runnable task) {
+        callAs(tenantId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Call a task for the given tenant, then restore the previous binding
+     */
+    public static <T> T callAs(String tenantId, Supplier<T> task) {
+        String previous = CURRENT.get();
+        CURRENT.set(validate(tenantId));
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Check a tenant id
+     *
+     * @return The tenant id
+     * @throws IllegalArgumentException if it is not 1 to 64 of [a-z0-9_-], starting with a letter or digit
+     */
+    public static String validate(String tenantId) {
+        if (tenantId == null || !TENANT_ID.matcher(tenantId).matches()) {
+            throw new IllegalArgumentException("Tenant id must be 1 to 64 lower-case letters, digits, '-' or '_'");
+        }
+        return tenantId;
+    }
+}
@@ -0,0 +1,160 @@
+package com.portfolio.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Tenant Partitioned Cache
+ *
+ * A Spring Cache that keeps a separate Caffeine cache per tenant and always
+ * works on the partition of TenantContext.current().
+ *
+ * This class demonstrates:
+ * - Design Pattern: Decorator / Composite (one named cache, many partitions)
+ * - Isolation: a large tenant fills and evicts only its own partition, and
+ *   clear() (@CacheEvict allEntries) only drops the current tenant's entries,
+ *   so writes of one tenant never empty the caches of the others
+ *
+ * Every partition gets its own bounds from the given builder. Partitions of
+ * tenants not used for idleExpiry are dropped (at most maxTenants are kept).
+ * The statistics of a dropped partition are added to a running total, and its
+ * remaining entries count as evictions, so the summed counters never go down.
+ */
+public class TenantPartitionedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Supplier<Caffeine<Object, Object>> partitionBuilder;
+    private final Cache<String, Partition> partitions;
+
+    // Statistics of dropped partitions; guarded by itself together with Partition.retired
+    private final Object statsLock = new Object();
+    private CacheStats retiredStats = CacheStats.empty();
+
+    public TenantPartitionedCache(String name, Supplier<Caffeine<Object, Object>> partitionBuilder,
+                                  long maxTenants, Duration idleExpiry) {
+        super(true);
+        this.name = name;
+        this.partitionBuilder = partitionBuilder;
+        this.partitions = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(idleExpiry)
+                // Runs while the partition is removed, before stats() can miss it
+                .evictionListener((String tenantId, Partition partition, RemovalCause cause) -> retire(partition))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The partitions by tenant id
+     */
+    @Override
+    public Cache<String, ? extends CaffeineCache> getNativeCache() {
+        return partitions;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return partition().getNativeCache().getIfPresent(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return partition().get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        partition().put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return partition().putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        CaffeineCache partition = partitions.getIfPresent(TenantContext.current());
+        if (partition != null) {
+            partition.evict(key);
+        }
+    }
+
+    /**
+     * Clear the current tenant's partition only
+     */
+    @Override
+    public void clear() {
+        CaffeineCache partition = partitions.getIfPresent(TenantContext.current());
+        if (partition != null) {
+            partition.clear();
+        }
+    }
+
+    /**
+     * Statistics summed over all partitions, including dropped ones
+     */
+    public CacheStats stats() {
+        synchronized (statsLock) {
+            CacheStats total = retiredStats;
+            for (Partition partition : partitions.asMap().values()) {
+                if (!partition.retired) {
+                    total = total.plus(partition.getNativeCache().stats());
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Entries summed over all partitions
+     */
+    public long estimatedSize() {
+        return partitions.asMap().values().stream()
+                .mapToLong(partition -> partition.getNativeCache().estimatedSize())
+                .sum();
+    }
+
+    private CaffeineCache partition() {
+        return partitions.get(TenantContext.current(),
+                tenantId -> new Partition(name, partitionBuilder.get().build(), isAllowNullValues()));
+    }
+
+    /**
+     * Helper method: Add a dropped partition's statistics to the running total
+     * Its entries go with it, so they count as evicted
+     */
+    private void retire(Partition partition) {
+        Cache<Object, Object> cache = partition.getNativeCache();
+        CacheStats stats = cache.stats();
+        CacheStats dropped = CacheStats.of(0, 0, 0, 0, 0, cache.estimatedSize(), 0);
+        synchronized (statsLock) {
+            retiredStats = retiredStats.plus(stats).plus(dropped);
+            partition.retired = true;
+        }
+    }
+
+    /**
+     * One tenant's partition; retired once its statistics are in the running total
+     */
+    private static final class Partition extends CaffeineCache {
+
+        private boolean retired;
+
+        Partition(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+    }
+}
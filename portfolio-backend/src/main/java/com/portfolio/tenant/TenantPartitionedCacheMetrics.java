@@ -0,0 +1,52 @@
+package com.portfolio.tenant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * cache.* metrics of a TenantPartitionedCache, summed over its partitions
+ * (registered for the project caches through MetricsConfig)
+ *
+ * Per-tenant tags are left out on purpose: the number of tenants is unbounded.
+ */
+public class TenantPartitionedCacheMetrics extends CacheMeterBinder<TenantPartitionedCache> {
+
+    public TenantPartitionedCacheMetrics(TenantPartitionedCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TenantPartitionedCache cache = getCache();
+        return cache != null ? cache.estimatedSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        TenantPartitionedCache cache = getCache();
+        return cache != null ? cache.stats().hitCount() : 0;
+    }
+
+    @Override
+    protected Long missCount() {
+        TenantPartitionedCache cache = getCache();
+        return cache != null ? cache.stats().missCount() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TenantPartitionedCache cache = getCache();
+        return cache != null ? cache.stats().evictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        TenantPartitionedCache cache = getCache();
+        return cache != null ? cache.stats().loadCount() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    }
+}
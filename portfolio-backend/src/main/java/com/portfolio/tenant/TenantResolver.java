@@ -0,0 +1,143 @@
+package com.portfolio.tenant;
+
+import com.portfolio.exception.TenantBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tenant Resolver
+ *
+ * Binds the tenant of every /api/projects request (see TenantConfig) to the
+ * request thread, and unbinds it when the request completes.
+ *
+ * This class demonstrates:
+ * - Design Pattern: Interceptor (runs in front of ProjectController)
+ * - Bulkhead: at most maxConcurrentRequests requests per tenant at once, so one
+ *   busy tenant cannot occupy every worker thread and pooled connection while
+ *   the others wait
+ *
+ * The tenant is taken from the tenant header (portfolio.tenant.header, default
+ * X-Tenant-ID). Without it the request belongs to the default tenant, unless
+ * portfolio.tenant.required is set. A malformed tenant id answers 400 BAD REQUEST;
+ * a tenant over its limit answers 429 TOO MANY REQUESTS with Retry-After.
+ *
+ * Streamed responses (/stream, /export, /changes) give their permit back once the
+ * handler hands the response to another thread; the stream carries the tenant
+ * itself (see ProjectController, ProjectChangeFeed).
+ *
+ * In-flight requests are counted per tenant in a map that only holds tenants
+ * with requests running: an entry is removed when its count drops to zero, never
+ * while requests hold it, so switching between many tenant ids cannot reset the
+ * count of a busy one.
+ *
+ * Tenant selection is not authenticated: any client can send any tenant id and
+ * read or write that tenant's projects. Tenants partition data, caches and
+ * limits; they are not an access control boundary. Deploy behind something
+ * that authenticates clients and sets (or checks) the header before relying on it.
+ */
+public class TenantResolver implements AsyncHandlerInterceptor {
+
+    // Holds the tenant id while the request counts against its tenant's limit
+    private static final String PERMIT_ATTRIBUTE = TenantResolver.class.getName() + ".permit";
+
+    private final String header;
+    private final boolean required;
+    private final int maxConcurrentRequests;
+    // Requests running per tenant; bounded by the requests in flight, entries at zero are removed
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+    private final Counter rejected;
+
+    public TenantResolver(String header, boolean required, int maxConcurrentRequests,
+                          MeterRegistry meterRegistry) {
+        this.header = header;
+        this.required = required;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.rejected = Counter.builder("portfolio.tenant.rejected")
+                .description("Requests rejected because their tenant had too many requests running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenantId = resolve(request);
+        // The async dispatch that completes a stream already gave its permit back
+        if (maxConcurrentRequests > 0 && request.getDispatcherType() != DispatcherType.ASYNC) {
+            if (!tryAcquire(tenantId)) {
+                rejected.increment();
+                throw new TenantBusyException(tenantId);
+            }
+            request.setAttribute(PERMIT_ATTRIBUTE, tenantId);
+        }
+        TenantContext.bind(tenantId);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+        TenantContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+        TenantContext.clear();
+    }
+
+    /**
+     * Helper method: Tenant id from the header, or the default tenant
+     *
+     * @throws IllegalArgumentException if it is missing but required, or malformed
+     */
+    private String resolve(HttpServletRequest request) {
+        String tenantId = request.getHeader(header);
+        if (tenantId == null || tenantId.isBlank()) {
+            if (required) {
+                throw new IllegalArgumentException(header + " header is required");
+            }
+            return TenantContext.DEFAULT_TENANT;
+        }
+        return TenantContext.validate(tenantId.trim());
+    }
+
+    /**
+     * Number of tenants with requests running right now
+     */
+    public int getActiveTenantCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Helper method: Count one more request for the tenant unless it is at its limit
+     * Count and removal happen in one compute, so a release cannot drop an entry
+     * that another request has just counted itself into
+     */
+    private boolean tryAcquire(String tenantId) {
+        boolean[] admitted = new boolean[1];
+        inFlight.compute(tenantId, (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxConcurrentRequests) {
+                return count;
+            }
+            admitted[0] = true;
+            return current + 1;
+        });
+        return admitted[0];
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof String tenantId) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            inFlight.computeIfPresent(tenantId, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+}
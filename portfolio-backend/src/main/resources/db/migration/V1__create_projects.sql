@@ -0,0 +1,14 @@
+-- Initial schema (previously created by Hibernate's ddl-auto=update)
+
+-- Increment matches allocationSize = 50 of the pooled id generator on Project
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS projects (
+    id            BIGINT        NOT NULL PRIMARY KEY,
+    title         VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000),
+    tech_stack    VARCHAR(255),
+    github_url    VARCHAR(255),
+    live_demo_url VARCHAR(255),
+    version       BIGINT        DEFAULT 0 NOT NULL
+);
@@ -0,0 +1,12 @@
+-- Responses stored per Idempotency-Key (used with portfolio.idempotency.store=jdbc)
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255)  NOT NULL PRIMARY KEY,
+    fingerprint     VARCHAR(64)   NOT NULL,
+    status          INT           NOT NULL,
+    etag            VARCHAR(64),
+    body            CLOB,
+    created_at      TIMESTAMP     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
@@ -0,0 +1,10 @@
+-- Progress of bulk imports (POST /api/projects/import), committed together with each batch
+
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    import_id     VARCHAR(255)  NOT NULL PRIMARY KEY,
+    records_done  BIGINT        DEFAULT 0 NOT NULL,
+    imported      BIGINT        DEFAULT 0 NOT NULL,
+    failed        BIGINT        DEFAULT 0 NOT NULL,
+    completed     BOOLEAN       DEFAULT FALSE NOT NULL,
+    updated_at    TIMESTAMP     NOT NULL
+);
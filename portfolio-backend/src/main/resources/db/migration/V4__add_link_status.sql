@@ -0,0 +1,5 @@
+-- Result of the last link check per URL (see com.portfolio.links)
+-- Values are the names of LinkStatus; UNKNOWN until the first check
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS github_status VARCHAR(16) DEFAULT 'UNKNOWN' NOT NULL;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS live_demo_status VARCHAR(16) DEFAULT 'UNKNOWN' NOT NULL;
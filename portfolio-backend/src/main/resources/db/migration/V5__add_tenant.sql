@@ -0,0 +1,11 @@
+-- Projects belong to a tenant (see com.portfolio.tenant); existing rows to the default tenant
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL;
+
+-- Every project query filters on the tenant first: list, keyset pages and id
+-- lookups read one tenant's slice of (tenant_id, id) instead of the whole table
+CREATE INDEX IF NOT EXISTS idx_projects_tenant_id ON projects (tenant_id, id);
+
+-- Idempotency keys and import ids are stored as "{tenant}:{key}"
+ALTER TABLE idempotency_keys ALTER COLUMN idempotency_key SET DATA TYPE VARCHAR(320);
+ALTER TABLE import_checkpoints ALTER COLUMN import_id SET DATA TYPE VARCHAR(320);
@@ -0,0 +1,115 @@
+package com.portfolio.event;
+
+import com.portfolio.controller.ProjectController;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.service.ProjectService;
+import com.portfolio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Open change feed subscriptions are limited per client and per tenant,
+ * and a closed subscription gives its place back; a first subscription can
+ * start from the sequence returned with the project list
+ */
+@SpringBootTest(properties = {"portfolio.changes.max-per-client=2", "portfolio.changes.max-per-tenant=3"})
+@AutoConfigureMockMvc
+class ProjectChangeFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void limitsSubscriptionsPerClient() throws Exception {
+        List<MvcResult> open = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            open.add(mockMvc.perform(changes("10.0.0.1", "feed-client"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn());
+        }
+        mockMvc.perform(changes("10.0.0.1", "feed-client"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        // Another client of the same tenant is not affected
+        open.add(mockMvc.perform(changes("10.0.0.2", "feed-client"))
+                .andExpect(request().asyncStarted())
+                .andReturn());
+
+        // Closing a subscription frees its place
+        open.remove(0).getRequest().getAsyncContext().complete();
+        open.add(mockMvc.perform(changes("10.0.0.1", "feed-client-other"))
+                .andExpect(request().asyncStarted())
+                .andReturn());
+        open.forEach(result -> result.getRequest().getAsyncContext().complete());
+    }
+
+    @Test
+    void limitsSubscriptionsPerTenant() throws Exception {
+        List<MvcResult> open = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            open.add(mockMvc.perform(changes("10.0.1." + i, "feed-tenant"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn());
+        }
+        mockMvc.perform(changes("10.0.1.9", "feed-tenant"))
+                .andExpect(status().isTooManyRequests());
+        open.forEach(result -> result.getRequest().getAsyncContext().complete());
+    }
+
+    @Test
+    void replaysChangesMadeAfterTheListWasRead() throws Exception {
+        String sequence = mockMvc.perform(get("/api/projects").header("X-Tenant-ID", "feed-resume"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ProjectController.CHANGE_SEQUENCE_HEADER))
+                .andReturn().getResponse().getHeader(ProjectController.CHANGE_SEQUENCE_HEADER);
+
+        // Created between reading the list and connecting to the feed
+        ProjectDTO project = new ProjectDTO();
+        project.setTitle("Created before connecting");
+        Long id = TenantContext.callAs("feed-resume", () -> projectService.createProject(project).getId());
+
+        MvcResult result = mockMvc.perform(changes("10.0.2.1", "feed-resume").param("lastEventId", sequence))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().contains("\"projectId\":" + id) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        result.getRequest().getAsyncContext().complete();
+
+        assertTrue(response.getContentAsString().contains("\"projectId\":" + id),
+                "change made after the list was read is replayed");
+    }
+
+    private static MockHttpServletRequestBuilder changes(String clientAddress, String tenantId) {
+        return get("/api/projects/changes")
+                .header("X-Tenant-ID", tenantId)
+                .with(request -> {
+                    request.setRemoteAddr(clientAddress);
+                    return request;
+                });
+    }
+}
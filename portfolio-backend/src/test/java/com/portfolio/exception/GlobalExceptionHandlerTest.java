@@ -0,0 +1,95 @@
+package com.portfolio.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.protobuf.ProjectProtobufHttpMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Error responses keep their status and JSON body whatever format the client
+ * negotiated, including formats that cannot carry an ErrorResponse; the
+ * not-found body formats its message only when it is written
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class GlobalExceptionHandlerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GlobalExceptionHandler handler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void notFoundWithProtobufAccept() throws Exception {
+        mockMvc.perform(get("/api/projects/999999")
+                        .accept(ProjectProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("Project not found with id: '999999'"));
+    }
+
+    @Test
+    void badRequestWithProtobufAccept() throws Exception {
+        mockMvc.perform(get("/api/projects")
+                        .param("fields", "nope")
+                        .accept(ProjectProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void notFoundMessageFormattedOnlyWhenWritten() throws Exception {
+        CountingId id = new CountingId(42);
+        ResponseEntity<ErrorResponse> response = handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Project", "id", id),
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/projects/42")));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(0, id.formatted);
+
+        String body = objectMapper.writeValueAsString(response.getBody());
+        assertEquals(1, id.formatted);
+        assertTrue(body.contains("\"message\":\"Project not found with id: '42'\""), body);
+        assertTrue(body.contains("\"details\":\"uri=/api/projects/42\""), body);
+    }
+
+    /**
+     * Id that counts how often it is formatted into a message
+     */
+    private static class CountingId {
+
+        private final long value;
+        private int formatted;
+
+        CountingId(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            formatted++;
+            return Long.toString(value);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.portfolio.links;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Addresses a probe may and may not reach, including IPv4 addresses written as IPv6,
+ * and the status of URLs on a local stub server (private addresses allowed)
+ */
+class LinkCheckerTest {
+
+    private HttpServer server;
+    private LinkChecker checker;
+
+    // "METHOD path" of every request the stub server received
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            switch (exchange.getRequestURI().getPath()) {
+                case "/ok" -> respond(exchange, 200, null);
+                case "/first" -> respond(exchange, 301, "/second");
+                case "/second" -> respond(exchange, 302, url("/ok"));
+                case "/loop" -> respond(exchange, 302, "/loop");
+                case "/no-location" -> respond(exchange, 302, null);
+                case "/get-only" -> respond(exchange, "HEAD".equals(exchange.getRequestMethod()) ? 405 : 200, null);
+                case "/slow" -> {
+                    sleep(2000);
+                    respond(exchange, 200, null);
+                }
+                default -> respond(exchange, 404, null);
+            }
+        });
+        server.start();
+        checker = new LinkChecker(new SimpleMeterRegistry(), Duration.ofSeconds(1), Duration.ofMillis(500),
+                4, 8, 5, Duration.ofHours(1), Duration.ofMinutes(5), 100, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        checker.shutdown();
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Test
+    void okResponseIsOk() throws Exception {
+        assertEquals(LinkStatus.OK, check("/ok"));
+        assertEquals(List.of("HEAD /ok"), requests);
+    }
+
+    @Test
+    void notFoundIsBroken() throws Exception {
+        assertEquals(LinkStatus.BROKEN, check("/missing"));
+    }
+
+    @Test
+    void followsRedirectChains() throws Exception {
+        assertEquals(LinkStatus.OK, check("/first"));
+        assertEquals(List.of("HEAD /first", "HEAD /second", "HEAD /ok"), requests);
+    }
+
+    @Test
+    void redirectLoopIsBroken() throws Exception {
+        assertEquals(LinkStatus.BROKEN, check("/loop"));
+        // The first request and max-redirects more
+        assertEquals(6, requests.size());
+    }
+
+    @Test
+    void retriesWithGetWhenHeadIsNotAllowed() throws Exception {
+        assertEquals(LinkStatus.OK, check("/get-only"));
+        assertEquals(List.of("HEAD /get-only", "GET /get-only"), requests);
+    }
+
+    @Test
+    void redirectWithoutLocationIsBroken() throws Exception {
+        assertEquals(LinkStatus.BROKEN, check("/no-location"));
+    }
+
+    @Test
+    void serverThatDoesNotAnswerInTimeIsUnreachable() throws Exception {
+        long start = System.nanoTime();
+        assertEquals(LinkStatus.UNREACHABLE, check("/slow"));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1500));
+    }
+
+    @Test
+    void rejectsPrivateAndReservedAddresses() throws Exception {
+        for (String address : new String[]{"127.0.0.1", "10.1.2.3", "172.16.0.1", "192.168.1.1",
+                "169.254.169.254", "0.0.0.0", "100.64.0.1", "100.127.255.254", "198.18.0.1",
+                "255.255.255.255", "::1", "::", "fd00::1", "fe80::1"}) {
+            assertTrue(LinkChecker.isPrivate(InetAddress.getByName(address)), address);
+        }
+    }
+
+    @Test
+    void rejectsIpv4EmbeddedInIpv6() throws Exception {
+        byte[] mapped = new byte[16];
+        mapped[10] = (byte) 0xff;
+        mapped[11] = (byte) 0xff;
+        mapped[12] = 127;
+        mapped[15] = 1;
+        // getByAddress keeps the IPv6 form that getByName would fold into IPv4
+        assertTrue(LinkChecker.isPrivate(InetAddress.getByAddress("mapped", mapped)));
+        assertTrue(LinkChecker.isPrivate(InetAddress.getByName("::10.0.0.1")));
+        assertTrue(LinkChecker.isPrivate(InetAddress.getByName("::ffff:100.64.0.1")));
+    }
+
+    @Test
+    void allowsPublicAddresses() throws Exception {
+        for (String address : new String[]{"93.184.216.34", "100.128.0.1", "8.8.8.8",
+                "::ffff:8.8.8.8", "2606:4700::1111"}) {
+            assertFalse(LinkChecker.isPrivate(InetAddress.getByName(address)), address);
+        }
+    }
+
+    private LinkStatus check(String path) throws Exception {
+        return checker.check(url(path)).get(5, TimeUnit.SECONDS);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String location) throws IOException {
+        if (location != null) {
+            exchange.getResponseHeaders().set("Location", location);
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.portfolio.links;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A server that sends its headers one byte at a time, each within the read
+ * timeout, is cut off at the request deadline
+ */
+class LinkProbeTest {
+
+    private final ScheduledExecutorService deadlines = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        deadlines.shutdownNow();
+    }
+
+    @Test
+    void tricklingServerIsCutOffAtTheDeadline() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Thread trickler = new Thread(() -> trickle(server));
+            trickler.setDaemon(true);
+            trickler.start();
+
+            URI uri = URI.create("http://localhost:" + server.getLocalPort() + "/");
+            long start = System.nanoTime();
+            assertThrows(SocketTimeoutException.class, () -> LinkProbe.send(uri, InetAddress.getLoopbackAddress(),
+                    "HEAD", "test", Duration.ofSeconds(1), Duration.ofMillis(500), deadlines));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMillis < 3000, "probe took " + elapsedMillis + " ms");
+        }
+    }
+
+    /**
+     * Helper method: Answer one connection with an endless header line, one byte every 50 ms
+     */
+    private static void trickle(ServerSocket server) {
+        try (Socket socket = server.accept()) {
+            OutputStream out = socket.getOutputStream();
+            out.write("HTTP/1.1 200 OK\r\nX-Slow: ".getBytes(StandardCharsets.US_ASCII));
+            while (true) {
+                out.write('a');
+                out.flush();
+                Thread.sleep(50);
+            }
+        } catch (IOException | InterruptedException e) {
+            // Client gave up
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Behind a proxy, clients are keyed by the address the proxy saw (the right-most
+ * X-Forwarded-For entry it did not add itself); entries the client sends are ignored
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "portfolio.ratelimit.read.rate=0.001", "portfolio.ratelimit.read.burst=1"})
+class RateLimitFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void clientCannotChooseItsKeyWithForwardedFor() throws Exception {
+        // The test connects from loopback, a trusted proxy address
+        assertEquals(200, get("198.51.100.1, 203.0.113.7"));
+        assertEquals(429, get("198.51.100.2, 203.0.113.7"));
+
+        // A different client behind the same proxy has its own bucket
+        assertEquals(200, get("198.51.100.1, 203.0.113.8"));
+    }
+
+    private int get(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/projects"))
+                .header("X-Forwarded-For", forwardedFor)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,128 @@
+package com.portfolio.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Read-only transactions go to the replica, writes and reads right after a
+ * write to the primary, and reads fall back to the primary while the replica
+ * fails its health check; primary and replica are two separate H2 databases
+ * that each answer with their own name
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final SwitchableDataSource replica = new SwitchableDataSource(database("routing-replica"));
+
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadWriteRoutingDataSource(database("routing-primary"), Map.of("replica-1", replica),
+                Duration.ofMinutes(1), Duration.ofSeconds(1));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingDataSource.unbindClient();
+        ReadWriteRoutingDataSource.forcePrimary(false);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertEquals("routing-replica", readOnly.execute(status -> databaseName()));
+        assertEquals("routing-primary", readWrite.execute(status -> databaseName()));
+        assertEquals("routing-primary", databaseName());
+        assertEquals(1, routing.getReplicaReads());
+    }
+
+    @Test
+    void readsStayOnThePrimaryAfterAWrite() {
+        ReadWriteRoutingDataSource.bindClient("10.0.0.1");
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE marker SET touched = touched + 1"));
+        assertEquals("routing-primary", readOnly.execute(status -> databaseName()));
+
+        // Other clients still read from the replica
+        ReadWriteRoutingDataSource.bindClient("10.0.0.2");
+        assertEquals("routing-replica", readOnly.execute(status -> databaseName()));
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaIsDown() {
+        replica.down = true;
+        routing.checkHealth();
+        assertEquals(0, routing.getHealthyReplicaCount());
+        assertEquals("routing-primary", readOnly.execute(status -> databaseName()));
+
+        replica.down = false;
+        routing.checkHealth();
+        assertEquals("routing-replica", readOnly.execute(status -> databaseName()));
+    }
+
+    @Test
+    void forcedReadsGoToThePrimary() {
+        boolean previous = ReadWriteRoutingDataSource.forcePrimary(true);
+        assertEquals("routing-primary", readOnly.execute(status -> databaseName()));
+        ReadWriteRoutingDataSource.forcePrimary(previous);
+        assertEquals("routing-replica", readOnly.execute(status -> databaseName()));
+    }
+
+    private String databaseName() {
+        return jdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    /**
+     * Helper method: In-memory database with a one-row marker table holding its name
+     */
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(64), touched INT);"
+                + "DELETE FROM marker; INSERT INTO marker VALUES ('" + name + "', 0)");
+        return dataSource;
+    }
+
+    /**
+     * DataSource that refuses connections while down, like a replica that went away
+     */
+    private static class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Replica is down");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.service;
+
+import com.portfolio.config.CacheConfig;
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.links.LinkStatus;
+import com.portfolio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * A write evicts only the projects it wrote from the single-project cache
+ */
+@SpringBootTest
+class ProjectServiceCacheTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void linkStatusChangeEvictsOnlyItsProject() {
+        TenantContext.runAs("cache-test", () -> {
+            Cache cache = cacheManager.getCache(CacheConfig.PROJECT_CACHE);
+            ProjectDTO first = projectService.createProject(project("First", "https://example.com/first"));
+            ProjectDTO second = projectService.createProject(project("Second", "https://example.com/second"));
+            projectService.getProjectById(first.getId());
+            projectService.getProjectById(second.getId());
+
+            projectService.updateLinkStatus(first.getId(), "https://example.com/first", LinkStatus.OK,
+                    null, LinkStatus.UNKNOWN);
+
+            assertNull(cache.get(first.getId()));
+            assertNotNull(cache.get(second.getId()));
+            assertEquals(LinkStatus.OK, projectService.getProjectById(first.getId()).getGithubStatus());
+        });
+    }
+
+    @Test
+    void batchUpdateEvictsOnlyItsProjects() {
+        TenantContext.runAs("cache-batch-test", () -> {
+            Cache cache = cacheManager.getCache(CacheConfig.PROJECT_CACHE);
+            ProjectDTO first = projectService.createProject(project("First", null));
+            ProjectDTO second = projectService.createProject(project("Second", null));
+            projectService.getProjectById(first.getId());
+            projectService.getProjectById(second.getId());
+
+            ProjectDTO edit = project("First edited", null);
+            edit.setId(first.getId());
+            projectService.updateProjects(List.of(edit));
+
+            assertNull(cache.get(first.getId()));
+            assertNotNull(cache.get(second.getId()));
+            assertEquals("First edited", projectService.getProjectById(first.getId()).getTitle());
+        });
+    }
+
+    private static ProjectDTO project(String title, String githubUrl) {
+        ProjectDTO project = new ProjectDTO();
+        project.setTitle(title);
+        project.setGithubUrl(githubUrl);
+        return project;
+    }
+}
@@ -0,0 +1,84 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ImportResult;
+import com.portfolio.exception.ImportInProgressException;
+import com.portfolio.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Two requests importing with the same importId never both commit a batch:
+ * the one whose checkpoint moved on rolls its batch back, and a retry continues
+ * after the records the other committed
+ */
+@SpringBootTest(properties = "portfolio.import.batch-size=2")
+class ProjectTransferServiceImportTest {
+
+    private static final String TENANT = "import-conflict";
+    private static final String INPUT = """
+            {"title":"One"}
+            {"title":"Two"}
+            {"title":"Three"}
+            {"title":"Four"}
+            """;
+
+    @Autowired
+    private ProjectTransferService transferService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchIsRolledBackWhenAnotherRequestAdvancedTheCheckpoint() {
+        TenantContext.runAs(TENANT, () -> {
+            // The other request commits the first two records while this one is reading
+            InputStream in = new FilterInputStream(input()) {
+                private boolean advanced;
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    if (!advanced) {
+                        advanced = true;
+                        jdbcTemplate.update("UPDATE import_checkpoints SET records_done = 2, imported = 2"
+                                + " WHERE import_id = ?", TENANT + ":same-id");
+                    }
+                    return super.read(buffer, offset, length);
+                }
+            };
+            assertThrows(ImportInProgressException.class,
+                    () -> transferService.importProjects(ProjectTransferService.Format.NDJSON, in, "same-id"));
+            assertEquals(0, projectService.getAllProjects().size());
+
+            ImportResult retry = importAgain();
+            assertEquals(2, retry.getResumedAfter());
+            assertEquals(4, retry.getImported());
+            assertEquals(2, projectService.getAllProjects().size());
+        });
+    }
+
+    private ImportResult importAgain() {
+        try {
+            return transferService.importProjects(ProjectTransferService.Format.NDJSON, input(), "same-id");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream input() {
+        return new ByteArrayInputStream(INPUT.getBytes(StandardCharsets.UTF_8));
+    }
+}
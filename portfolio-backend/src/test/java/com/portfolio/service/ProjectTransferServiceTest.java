@@ -0,0 +1,49 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.ProjectDTO;
+import com.portfolio.links.LinkStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Export formats, byte for byte
+ */
+class ProjectTransferServiceTest {
+
+    @Test
+    void ndjsonExportWritesOneObjectPerLine() throws Exception {
+        ProjectService projectService = mock(ProjectService.class);
+        doAnswer(invocation -> {
+            Consumer<ProjectDTO> sink = invocation.getArgument(0);
+            List.of(
+                    new ProjectDTO(1L, "One", "First", "Java", null, null, LinkStatus.OK, LinkStatus.UNKNOWN, 0L),
+                    new ProjectDTO(2L, "Two", null, null, null, null, LinkStatus.UNKNOWN, LinkStatus.UNKNOWN, 3L)
+            ).forEach(sink);
+            return null;
+        }).when(projectService).streamAllProjects(any());
+
+        ProjectTransferService transferService = new ProjectTransferService(projectService,
+                Jackson2ObjectMapperBuilder.json().build(), null, mock(PlatformTransactionManager.class));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transferService.exportProjects(ProjectTransferService.Format.NDJSON, out);
+
+        assertEquals("{\"id\":1,\"title\":\"One\",\"description\":\"First\",\"techStack\":\"Java\","
+                        + "\"githubUrl\":null,\"liveDemoUrl\":null,\"githubStatus\":\"OK\","
+                        + "\"liveDemoStatus\":\"UNKNOWN\",\"version\":0}\n"
+                        + "{\"id\":2,\"title\":\"Two\",\"description\":null,\"techStack\":null,"
+                        + "\"githubUrl\":null,\"liveDemoUrl\":null,\"githubStatus\":\"UNKNOWN\","
+                        + "\"liveDemoStatus\":\"UNKNOWN\",\"version\":3}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,63 @@
+package com.portfolio.sql;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL settings are changed through the Actuator endpoint only, field by field
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,info,metrics,prometheus,sql")
+@AutoConfigureMockMvc
+class SqlEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void partialUpdateKeepsOtherSettings() throws Exception {
+        mockMvc.perform(post("/actuator/sql")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sampleRate\":0.1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sampleRate").value(0.1))
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.slowThresholdMillis").value(200))
+                .andExpect(jsonPath("$.requestStatementThreshold").value(20));
+
+        mockMvc.perform(get("/actuator/sql"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.settings.sampleRate").value(0.1))
+                .andExpect(jsonPath("$.settings.enabled").value(true));
+
+        mockMvc.perform(post("/actuator/sql")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sampleRate\":0.0}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void invalidSettingIsRejected() throws Exception {
+        mockMvc.perform(post("/actuator/sql")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sampleRate\":2}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void notOnPublicApi() throws Exception {
+        mockMvc.perform(put("/api/sql/settings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\":false}"))
+                .andExpect(status().isNotFound());
+    }
+}
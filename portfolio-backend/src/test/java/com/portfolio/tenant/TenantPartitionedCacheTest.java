@@ -0,0 +1,41 @@
+package com.portfolio.tenant;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Statistics of dropped tenant partitions stay in the totals
+ */
+class TenantPartitionedCacheTest {
+
+    @Test
+    void droppedPartitionKeepsItsStatistics() {
+        TenantPartitionedCache cache = new TenantPartitionedCache("test",
+                () -> Caffeine.newBuilder().maximumSize(100).recordStats(), 1, Duration.ofHours(1));
+
+        TenantContext.runAs("first", () -> {
+            cache.get("a", () -> "A");
+            cache.get("b", () -> "B");
+            cache.get("a");
+        });
+        CacheStats before = cache.stats();
+        assertEquals(1, before.hitCount());
+        assertEquals(2, before.missCount());
+
+        // Only one tenant is kept: the second one drops the first partition
+        TenantContext.runAs("second", () -> cache.get("c"));
+        cache.getNativeCache().cleanUp();
+
+        CacheStats after = cache.stats();
+        assertEquals(1, cache.getNativeCache().estimatedSize());
+        assertEquals(1, after.hitCount());
+        assertEquals(3, after.missCount());
+        // The two entries that went with the partition
+        assertEquals(2, after.evictionCount());
+    }
+}
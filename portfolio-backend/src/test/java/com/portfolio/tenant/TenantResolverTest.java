@@ -0,0 +1,45 @@
+package com.portfolio.tenant;
+
+import com.portfolio.exception.TenantBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A tenant's in-flight count survives requests of many other tenants, and
+ * tenants without running requests take no memory
+ */
+class TenantResolverTest {
+
+    private final TenantResolver resolver = new TenantResolver("X-Tenant-ID", false, 1, new SimpleMeterRegistry());
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void busyTenantStaysBusyWhileOtherTenantsComeAndGo() {
+        MockHttpServletRequest busy = request("busy");
+        resolver.preHandle(busy, response, null);
+
+        for (int i = 0; i < 10_000; i++) {
+            MockHttpServletRequest other = request("other-" + i);
+            resolver.preHandle(other, response, null);
+            resolver.afterCompletion(other, response, null, null);
+        }
+        assertThrows(TenantBusyException.class, () -> resolver.preHandle(request("busy"), response, null));
+        assertEquals(1, resolver.getActiveTenantCount());
+
+        resolver.afterCompletion(busy, response, null, null);
+        assertEquals(0, resolver.getActiveTenantCount());
+        resolver.preHandle(request("busy"), response, null);
+        TenantContext.clear();
+    }
+
+    private static MockHttpServletRequest request(String tenantId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("X-Tenant-ID", tenantId);
+        return request;
+    }
+}
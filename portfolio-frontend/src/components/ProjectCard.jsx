@@ -4,6 +4,15 @@ import { motion } from 'framer-motion';
 import { Github, ExternalLink, Edit2, Trash2, Code2, FolderGit2 } from 'lucide-react';
 import './ProjectCard.css';
 
+// Link statuses set by the backend link checker that mean the URL did not work
+const FAILED_STATUSES = ['BROKEN', 'UNREACHABLE', 'INVALID'];
+
+const linkClass = (base, status) =>
+    FAILED_STATUSES.includes(status) ? `${base} broken` : base;
+
+const linkTitle = (status) =>
+    FAILED_STATUSES.includes(status) ? `Link check: ${status.toLowerCase()}` : undefined;
+
 const ProjectCard = ({ project, onDelete }) => {
     return (
         <motion.div
@@ -38,13 +47,13 @@ const ProjectCard = ({ project, onDelete }) => {
 
                 <div className="project-links">
                     {project.githubUrl && (
-                        <a href={project.githubUrl} target="_blank" rel="noopener noreferrer" className="link-btn github">
+                        <a href={project.githubUrl} target="_blank" rel="noopener noreferrer" className={linkClass('link-btn github', project.githubStatus)} title={linkTitle(project.githubStatus)}>
                             <Github size={16} />
                             Code
                         </a>
                     )}
                     {project.liveDemoUrl && (
-                        <a href={project.liveDemoUrl} target="_blank" rel="noopener noreferrer" className="link-btn demo">
+                        <a href={project.liveDemoUrl} target="_blank" rel="noopener noreferrer" className={linkClass('link-btn demo', project.liveDemoStatus)} title={linkTitle(project.liveDemoStatus)}>
                             <ExternalLink size={16} />
                             Live Demo
                         </a>
@@ -65,7 +74,9 @@ ProjectCard.propTypes = {
         description: PropTypes.string,
         techStack: PropTypes.string,
         githubUrl: PropTypes.string,
-        liveDemoUrl: PropTypes.string
+        liveDemoUrl: PropTypes.string,
+        githubStatus: PropTypes.string,
+        liveDemoStatus: PropTypes.string
     }).isRequired,
     onDelete: PropTypes.func.isRequired
 };
@@ -1,5 +1,5 @@
 import { useState, useEffect } from 'react';
-import { getAllProjects, deleteProject } from '../services/projectService';
+import { getAllProjectsWithSequence, deleteProject, subscribeToChanges } from '../services/projectService';
 import ProjectCard from '../components/ProjectCard';
 import LoadingSpinner from '../components/LoadingSpinner';
 import ErrorMessage from '../components/ErrorMessage';
@@ -22,7 +22,21 @@ const ProjectList = () => {
     const totalPages = Math.ceil(filteredProjects.length / projectsPerPage);
 
     useEffect(() => {
-        fetchProjects();
+        let unsubscribe = null;
+        let cancelled = false;
+        // Apply changes pushed by the backend instead of re-fetching the whole list;
+        // the feed starts at the list's sequence, so changes made in between are replayed
+        fetchProjects().then(sequence => {
+            if (!cancelled) {
+                unsubscribe = subscribeToChanges(applyChange, fetchProjects, sequence);
+            }
+        });
+        return () => {
+            cancelled = true;
+            if (unsubscribe) {
+                unsubscribe();
+            }
+        };
     }, []);
 
     useEffect(() => {
@@ -37,16 +51,28 @@ const ProjectList = () => {
 
     const fetchProjects = async () => {
         try {
-            const data = await getAllProjects();
+            const { projects: data, sequence } = await getAllProjectsWithSequence();
             setProjects(data);
             setFilteredProjects(data);
             setLoading(false);
+            return sequence;
         } catch (err) {
             setError(`Failed to load projects from ${API_CONFIG.BASE_URL}. Please check if backend is running.`);
             setLoading(false);
+            return undefined;
         }
     };
 
+    const applyChange = ({ type, projectId, project }) => {
+        setProjects(current => {
+            const others = current.filter(p => p.id !== projectId);
+            if (type === 'DELETED') {
+                return others;
+            }
+            return [...others, project].sort((a, b) => a.id - b.id);
+        });
+    };
+
     const handleDelete = async (id) => {
         if (window.confirm('Are you sure you want to delete this project?')) {
             try {
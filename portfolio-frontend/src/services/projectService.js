@@ -22,9 +22,19 @@ const API_URL = `${API_CONFIG.BASE_URL}${API_CONFIG.ENDPOINTS.PROJECTS}`;
  * @returns {Promise} Promise resolving to array of projects
  */
 export const getAllProjects = async () => {
+    const { projects } = await getAllProjectsWithSequence();
+    return projects;
+};
+
+/**
+ * Get all projects and the change feed sequence the list is current as of
+ * Pass the sequence to subscribeToChanges so no change made in between is missed
+ * @returns {Promise} Promise resolving to { projects, sequence }
+ */
+export const getAllProjectsWithSequence = async () => {
     try {
         const response = await axios.get(API_URL);
-        return response.data;
+        return { projects: response.data, sequence: response.headers['x-change-sequence'] };
     } catch (error) {
         console.error('Error fetching projects:', error);
         throw error;
@@ -90,3 +100,19 @@ export const deleteProject = async (id) => {
         throw error;
     }
 };
+
+/**
+ * Subscribe to project changes (Server-Sent Events)
+ * The browser reconnects on its own and resumes after the last received event.
+ * @param {Function} onChange - Called with { sequence, type, projectId, project }
+ * @param {Function} onReset - Called when missed changes cannot be replayed; reload the list
+ * @param {string} [since] - Sequence returned with the list; changes after it are replayed first
+ * @returns {Function} Unsubscribe function
+ */
+export const subscribeToChanges = (onChange, onReset, since) => {
+    const query = since ? `?lastEventId=${encodeURIComponent(since)}` : '';
+    const source = new EventSource(`${API_URL}/changes${query}`);
+    source.addEventListener('change', (event) => onChange(JSON.parse(event.data)));
+    source.addEventListener('reset', () => onReset());
+    return () => source.close();
+};